@@ -0,0 +1,199 @@
+package potionstudios.byg.common.blockentity;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one server tick of the freezing scan of 100 active hypogeal imperiums: {@link #fullCube} is the previous scan of every cell of every region each tick,
+ * {@link #cursor} the {@link ImperiumScan} sweep.
+ * <p>
+ * In the {@code SETTLED} scene there is nothing left to freeze, the steady state of an imperium that has been running for a while.
+ * In the {@code REFILLING} scene one source flows back into every region each tick, so the sweeps never settle.
+ * Fuel is unlimited, the regions don't overlap and the imperium count can be changed with {@code -p imperiums=}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ImperiumScanBenchmark {
+
+    private static final int CENTER_Y = 2;
+    private static final int REFILLS = 1024;
+
+    @Param({"100"})
+    public int imperiums;
+
+    /**
+     * Crystals loaded into every imperium, the radius is 6 plus the crystal count.
+     */
+    @Param({"0", "12"})
+    public int crystals;
+
+    @Param({"SETTLED", "REFILLING"})
+    public Scene scene;
+
+    private int radius;
+    private Grid level;
+    private BlockPos[] centers;
+    private ImperiumScan[] scans;
+    private ImperiumScan.Freezer freezer;
+    private int[] refills;
+    private int refill;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        this.radius = 6 + this.crystals;
+        int spacing = this.radius * 2 + 1;
+        int perRow = (int) Math.ceil(Math.sqrt(this.imperiums));
+        this.level = new Grid(perRow * spacing, ImperiumScan.HEIGHT);
+        this.centers = new BlockPos[this.imperiums];
+        this.scans = new ImperiumScan[this.imperiums];
+        for (int i = 0; i < this.imperiums; i++) {
+            this.centers[i] = new BlockPos((i % perRow) * spacing + this.radius, CENTER_Y, (i / perRow) * spacing + this.radius);
+            this.scans[i] = new ImperiumScan();
+        }
+        Grid level = this.level;
+        this.freezer = (pos, frozen) -> {
+            level.set(pos.getX(), pos.getY(), pos.getZ(), frozen);
+            return true;
+        };
+
+        Random random = new Random(42);
+        this.refills = new int[REFILLS];
+        for (int i = 0; i < REFILLS; i++) {
+            this.refills[i] = random.nextInt(spacing * spacing * ImperiumScan.HEIGHT);
+        }
+        this.refill = 0;
+    }
+
+    @Benchmark
+    public int fullCube() {
+        refill();
+        int converted = 0;
+        for (BlockPos center : this.centers) {
+            converted += fullCubeScan(this.level, center, this.radius);
+        }
+        return converted;
+    }
+
+    @Benchmark
+    public void cursor() {
+        refill();
+        for (int i = 0; i < this.centers.length; i++) {
+            this.scans[i].tick(this.level, this.centers[i], this.radius, this.freezer);
+        }
+    }
+
+    private void refill() {
+        if (this.scene != Scene.REFILLING) {
+            return;
+        }
+        int width = this.radius * 2 + 1;
+        for (BlockPos center : this.centers) {
+            int cell = this.refills[this.refill];
+            this.refill = (this.refill + 1) & (REFILLS - 1);
+            this.level.set(center.getX() - this.radius + cell % width, center.getY() + ImperiumScan.MIN_Y + cell / (width * width), center.getZ() - this.radius + (cell / width) % width, Blocks.WATER.defaultBlockState());
+        }
+    }
+
+    /**
+     * The scan as it was before the sweep, including the positions it allocated for every cell.
+     */
+    private static int fullCubeScan(Grid level, BlockPos blockPos, int h) {
+        int converted = 0;
+        for (int x1 = blockPos.getX() - h; x1 <= blockPos.getX() + h; ++x1) {
+            for (int y1 = blockPos.getY() - 2; y1 <= blockPos.getY() + 5; ++y1) {
+                for (int z1 = blockPos.getZ() - h; z1 <= blockPos.getZ() + h; ++z1) {
+                    if (level.getBlockState(new BlockPos(x1, y1, z1)) == Blocks.WATER.defaultBlockState()) {
+                        level.set(x1, y1, z1, Blocks.ICE.defaultBlockState());
+                        converted++;
+                    }
+                    if (level.getBlockState(new BlockPos(x1, y1, z1)) == Blocks.LAVA.defaultBlockState()) {
+                        level.set(x1, y1, z1, Blocks.OBSIDIAN.defaultBlockState());
+                        converted++;
+                    }
+                }
+            }
+        }
+        return converted;
+    }
+
+    public enum Scene {
+        SETTLED,
+        REFILLING
+    }
+
+    /**
+     * A box of stone starting at the origin, everything outside it is air.
+     */
+    private static final class Grid implements BlockGetter {
+        private final int size;
+        private final int height;
+        private final BlockState[] states;
+
+        private Grid(int size, int height) {
+            this.size = size;
+            this.height = height;
+            this.states = new BlockState[size * size * height];
+            Arrays.fill(this.states, Blocks.STONE.defaultBlockState());
+        }
+
+        private void set(int x, int y, int z, BlockState state) {
+            this.states[(y * this.size + z) * this.size + x] = state;
+        }
+
+        @Nullable
+        @Override
+        public BlockEntity getBlockEntity(BlockPos pos) {
+            return null;
+        }
+
+        @Override
+        public BlockState getBlockState(BlockPos pos) {
+            int x = pos.getX();
+            int y = pos.getY();
+            int z = pos.getZ();
+            if (x < 0 || x >= this.size || y < 0 || y >= this.height || z < 0 || z >= this.size) {
+                return Blocks.AIR.defaultBlockState();
+            }
+            return this.states[(y * this.size + z) * this.size + x];
+        }
+
+        @Override
+        public FluidState getFluidState(BlockPos pos) {
+            return getBlockState(pos).getFluidState();
+        }
+
+        @Override
+        public int getHeight() {
+            return this.height;
+        }
+
+        @Override
+        public int getMinBuildHeight() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package potionstudios.byg.common.world.feature.stateproviders;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.valueproviders.FloatProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the threshold check of {@link BetweenNoiseThresholdProvider#getState} for one block: {@link #scan} is the previous loop over the threshold providers, {@link #index} the {@link ThresholdIndex} lookup.
+ * <p>
+ * Thresholds are evenly spaced over -1 to 1 like {@link BetweenNoiseThresholdProvider#createThresholds} makes them, and the values are shaped like a normal noise, so most land in the middle of the range.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ThresholdIndexBenchmark {
+
+    private static final int VALUES = 1024;
+
+    @Param({"4", "16", "64"})
+    public int thresholds;
+
+    private List<FloatProvider> thresholdProviders;
+    private ThresholdIndex thresholdIndex;
+    private final double[] values = new double[VALUES];
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        this.thresholdProviders = BetweenNoiseThresholdProvider.createThresholds(1F / this.thresholds, -1F, 1F - 1F / this.thresholds);
+        this.thresholdIndex = new ThresholdIndex(this.thresholdProviders.stream().mapToDouble(FloatProvider::getMinValue).toArray(), this.thresholdProviders.stream().mapToDouble(FloatProvider::getMaxValue).toArray());
+        Random random = new Random(42);
+        for (int i = 0; i < VALUES; i++) {
+            this.values[i] = random.nextGaussian() * 0.4;
+        }
+    }
+
+    @Benchmark
+    public boolean scan() {
+        double noiseValue = nextValue();
+        for (FloatProvider threshold : this.thresholdProviders) {
+            if (noiseValue >= threshold.getMinValue() && noiseValue <= threshold.getMaxValue()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean index() {
+        return this.thresholdIndex.contains(nextValue());
+    }
+
+    private double nextValue() {
+        double value = this.values[this.cursor];
+        this.cursor = (this.cursor + 1) & (VALUES - 1);
+        return value;
+    }
+}
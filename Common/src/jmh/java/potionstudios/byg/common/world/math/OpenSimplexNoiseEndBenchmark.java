@@ -0,0 +1,86 @@
+package potionstudios.byg.common.world.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import potionstudios.byg.common.world.math.noise.BenchmarkCoordinates;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OpenSimplexNoiseEnd} sampling at the scale end lakes use, and the cost of building its permutation tables for a new seed.
+ * <p>
+ * Allocation per operation is reported by the gc profiler configured for the jmh task.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OpenSimplexNoiseEndBenchmark {
+
+    private static final long SEED = 15152L;
+    private static final double FREQUENCY = 0.2;
+
+    private OpenSimplexNoiseEnd sampler;
+    private int cursor;
+
+    private final double[] columns = new double[BenchmarkCoordinates.COLUMNS];
+    private final double[] section = new double[BenchmarkCoordinates.SECTION_BLOCKS];
+
+    @Setup
+    public void setup() {
+        this.sampler = new OpenSimplexNoiseEnd(SEED);
+    }
+
+    @Benchmark
+    public double sample2D() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return this.sampler.eval(BenchmarkCoordinates.X[cursor] * FREQUENCY, BenchmarkCoordinates.Z[cursor] * FREQUENCY);
+    }
+
+    @Benchmark
+    public double sample3D() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return this.sampler.eval(BenchmarkCoordinates.X[cursor] * FREQUENCY, BenchmarkCoordinates.Y[cursor] * FREQUENCY, BenchmarkCoordinates.Z[cursor] * FREQUENCY);
+    }
+
+    @Benchmark
+    public double[] sample2DChunk() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        int originX = (int) BenchmarkCoordinates.X[cursor] & ~15;
+        int originZ = (int) BenchmarkCoordinates.Z[cursor] & ~15;
+        double[] columns = this.columns;
+        for (int x = 0; x < BenchmarkCoordinates.CHUNK_SIZE; x++) {
+            for (int z = 0; z < BenchmarkCoordinates.CHUNK_SIZE; z++) {
+                columns[(x << 4) | z] = this.sampler.eval((originX + x) * FREQUENCY, (originZ + z) * FREQUENCY);
+            }
+        }
+        return columns;
+    }
+
+    @Benchmark
+    public double[] sample3DSection() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        int originX = (int) BenchmarkCoordinates.X[cursor] & ~15;
+        int originY = (int) BenchmarkCoordinates.Y[cursor] & ~15;
+        int originZ = (int) BenchmarkCoordinates.Z[cursor] & ~15;
+        double[] section = this.section;
+        for (int x = 0; x < BenchmarkCoordinates.CHUNK_SIZE; x++) {
+            for (int y = 0; y < BenchmarkCoordinates.CHUNK_SIZE; y++) {
+                for (int z = 0; z < BenchmarkCoordinates.CHUNK_SIZE; z++) {
+                    section[(y << 8) | (x << 4) | z] = this.sampler.eval((originX + x) * FREQUENCY, (originY + y) * FREQUENCY, (originZ + z) * FREQUENCY);
+                }
+            }
+        }
+        return section;
+    }
+
+    @Benchmark
+    public OpenSimplexNoiseEnd create() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return new OpenSimplexNoiseEnd(SEED + cursor);
+    }
+}
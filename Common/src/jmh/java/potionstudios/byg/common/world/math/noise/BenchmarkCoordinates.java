@@ -0,0 +1,40 @@
+package potionstudios.byg.common.world.math.noise;
+
+import java.util.Random;
+
+/**
+ * Fixed pseudo random block coordinates shared by the noise benchmarks so that every sampler is fed the same inputs.
+ * <p>
+ * Single sample benchmarks walk through these with {@link #next(int)} so the JIT can neither constant fold the input nor the result.
+ */
+public final class BenchmarkCoordinates {
+
+    public static final int COUNT = 1024;
+    private static final int MASK = COUNT - 1;
+
+    public static final int CHUNK_SIZE = 16;
+    public static final int COLUMNS = CHUNK_SIZE * CHUNK_SIZE;
+    public static final int SECTION_BLOCKS = COLUMNS * CHUNK_SIZE;
+
+    private static final int RANGE = 30_000;
+
+    public static final double[] X = create(1L, RANGE);
+    public static final double[] Y = create(2L, 384);
+    public static final double[] Z = create(3L, RANGE);
+
+    private BenchmarkCoordinates() {
+    }
+
+    public static int next(int cursor) {
+        return (cursor + 1) & MASK;
+    }
+
+    private static double[] create(long seed, int range) {
+        Random random = new Random(seed);
+        double[] coordinates = new double[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            coordinates[i] = random.nextInt(range * 2) - range;
+        }
+        return coordinates;
+    }
+}
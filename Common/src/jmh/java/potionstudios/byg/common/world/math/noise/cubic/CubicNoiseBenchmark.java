@@ -0,0 +1,73 @@
+package potionstudios.byg.common.world.math.noise.cubic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import potionstudios.byg.common.world.math.noise.BenchmarkCoordinates;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CubicNoise} sampling and construction.
+ * <p>
+ * Cubic noise has no 3D variant, so the 1D and 2D samplers stand in for the single and batch 3D cases of the other noise benchmarks.
+ * Allocation per operation is reported by the gc profiler configured for the jmh task, which matters here since every 2D sample allocates its interpolation buffer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CubicNoiseBenchmark {
+
+    private static final int SEED = 1_234_567;
+
+    @Param({"0.01", "0.1"})
+    public double frequency;
+
+    private CubicNoise sampler;
+    private int cursor;
+
+    private final double[] columns = new double[BenchmarkCoordinates.COLUMNS];
+
+    @Setup
+    public void setup() {
+        this.sampler = new CubicNoise(SEED);
+    }
+
+    @Benchmark
+    public double sample1D() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return this.sampler.sample2D(BenchmarkCoordinates.X[cursor] * this.frequency);
+    }
+
+    @Benchmark
+    public double sample2D() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return this.sampler.sample2D(BenchmarkCoordinates.X[cursor] * this.frequency, BenchmarkCoordinates.Z[cursor] * this.frequency);
+    }
+
+    @Benchmark
+    public double[] sample2DChunk() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        int originX = (int) BenchmarkCoordinates.X[cursor] & ~15;
+        int originZ = (int) BenchmarkCoordinates.Z[cursor] & ~15;
+        double frequency = this.frequency;
+        double[] columns = this.columns;
+        for (int x = 0; x < BenchmarkCoordinates.CHUNK_SIZE; x++) {
+            for (int z = 0; z < BenchmarkCoordinates.CHUNK_SIZE; z++) {
+                columns[(x << 4) | z] = this.sampler.sample2D((originX + x) * frequency, (originZ + z) * frequency);
+            }
+        }
+        return columns;
+    }
+
+    @Benchmark
+    public CubicNoise create() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return new CubicNoise(SEED + cursor);
+    }
+}
@@ -0,0 +1,146 @@
+package potionstudios.byg.common.world.math.noise.fastnoise;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import potionstudios.byg.common.world.math.noise.BenchmarkCoordinates;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FastNoise} sampling for the configurations BYG's features actually use, along with the cost of building a sampler by hand versus fetching a shared one from {@link FastNoiseSamplers}.
+ * <p>
+ * Allocation per operation is reported by the gc profiler configured for the jmh task.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FastNoiseBenchmark {
+
+    private static final long WORLD_SEED = 2_147_483_647_123L;
+
+    @Param({"SPIKE", "DUNE_PEAK", "LARGE_LAKE", "TREE_DISK"})
+    public FeatureSettings featureSettings;
+
+    private FastNoiseSamplers.Settings settings;
+    private FastNoise sampler;
+    private FastNoise reseeded;
+    private int cursor;
+
+    private final float[] columns = new float[BenchmarkCoordinates.COLUMNS];
+    private final float[] section = new float[BenchmarkCoordinates.SECTION_BLOCKS];
+
+    @Setup
+    public void setup() {
+        this.settings = this.featureSettings.settings;
+        this.sampler = FastNoiseSamplers.get(WORLD_SEED, this.settings);
+        this.reseeded = configure();
+    }
+
+    @Benchmark
+    public float sample2D() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return this.sampler.GetNoise((float) BenchmarkCoordinates.X[cursor], (float) BenchmarkCoordinates.Z[cursor]);
+    }
+
+    @Benchmark
+    public float sample3D() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return this.sampler.GetNoise((float) BenchmarkCoordinates.X[cursor], (float) BenchmarkCoordinates.Y[cursor], (float) BenchmarkCoordinates.Z[cursor]);
+    }
+
+    /**
+     * Samples every column of a chunk, the way most of BYG's 2D noise features walk their area.
+     */
+    @Benchmark
+    public float[] sample2DChunk() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        int originX = (int) BenchmarkCoordinates.X[cursor] & ~15;
+        int originZ = (int) BenchmarkCoordinates.Z[cursor] & ~15;
+        float[] columns = this.columns;
+        for (int x = 0; x < BenchmarkCoordinates.CHUNK_SIZE; x++) {
+            for (int z = 0; z < BenchmarkCoordinates.CHUNK_SIZE; z++) {
+                columns[(x << 4) | z] = this.sampler.GetNoise(originX + x, originZ + z);
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Samples every block of a chunk section, the way BYG's 3D noise features (spikes, noise spheres, boulders) walk their volume.
+     */
+    @Benchmark
+    public float[] sample3DSection() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        int originX = (int) BenchmarkCoordinates.X[cursor] & ~15;
+        int originY = (int) BenchmarkCoordinates.Y[cursor] & ~15;
+        int originZ = (int) BenchmarkCoordinates.Z[cursor] & ~15;
+        float[] section = this.section;
+        for (int x = 0; x < BenchmarkCoordinates.CHUNK_SIZE; x++) {
+            for (int y = 0; y < BenchmarkCoordinates.CHUNK_SIZE; y++) {
+                for (int z = 0; z < BenchmarkCoordinates.CHUNK_SIZE; z++) {
+                    section[(y << 8) | (x << 4) | z] = this.sampler.GetNoise(originX + x, originY + y, originZ + z);
+                }
+            }
+        }
+        return section;
+    }
+
+    /**
+     * What features did per placement before {@link FastNoiseSamplers}: build a sampler and configure it from scratch.
+     */
+    @Benchmark
+    public FastNoise configure() {
+        FastNoiseSamplers.Settings settings = this.settings;
+        FastNoise fastNoise = new FastNoise((int) WORLD_SEED + settings.seedOffset());
+        fastNoise.SetNoiseType(settings.noiseType());
+        fastNoise.SetFrequency(settings.frequency());
+        fastNoise.SetFractalType(settings.fractalType());
+        fastNoise.SetFractalOctaves(settings.fractalOctaves());
+        fastNoise.SetCellularDistanceFunction(settings.cellularDistanceFunction());
+        fastNoise.SetCellularReturnType(settings.cellularReturnType());
+        fastNoise.SetGradientPerturbAmp(settings.gradientPerturbAmp());
+        return fastNoise;
+    }
+
+    /**
+     * Reseeds one long lived sampler, the pattern features used when they kept a static sampler and reset its seed & frequency on every placement.
+     */
+    @Benchmark
+    public void reseed(Blackhole blackhole) {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        this.reseeded.SetSeed(cursor);
+        this.reseeded.SetFrequency(this.settings.frequency());
+        blackhole.consume(this.reseeded);
+    }
+
+    @Benchmark
+    public FastNoise sharedLookup() {
+        return FastNoiseSamplers.get(WORLD_SEED, this.settings);
+    }
+
+    /**
+     * Copies of the settings declared by the features that sample {@link FastNoise}.
+     */
+    public enum FeatureSettings {
+        SPIKE(FastNoiseSamplers.Settings.of(FastNoise.NoiseType.Cellular)),
+        DUNE_PEAK(FastNoiseSamplers.Settings.of(FastNoise.NoiseType.Cellular)
+            .withFrequency(0.023F)
+            .withCellular(FastNoise.CellularDistanceFunction.Euclidean, FastNoise.CellularReturnType.Distance2Mul)
+            .withGradientPerturbAmp(1.5F)),
+        LARGE_LAKE(FastNoiseSamplers.Settings.of(FastNoise.NoiseType.Simplex).withFrequency(0.8F)),
+        TREE_DISK(FastNoiseSamplers.Settings.of(FastNoise.NoiseType.Simplex));
+
+        private final FastNoiseSamplers.Settings settings;
+
+        FeatureSettings(FastNoiseSamplers.Settings settings) {
+            this.settings = settings;
+        }
+    }
+}
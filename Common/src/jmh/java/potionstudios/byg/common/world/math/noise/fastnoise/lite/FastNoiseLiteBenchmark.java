@@ -0,0 +1,103 @@
+package potionstudios.byg.common.world.math.noise.fastnoise.lite;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import potionstudios.byg.common.world.math.noise.BenchmarkCoordinates;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link FastNoiseLite} sampling and setup. The fractal settings match {@link FastNoiseLite#createSpongePerlin(int)}, which is how volcanoes and purpur peaks build theirs, with the noise type varied around it.
+ * <p>
+ * Allocation per operation is reported by the gc profiler configured for the jmh task.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FastNoiseLiteBenchmark {
+
+    private static final int SEED = 1_234_567;
+
+    @Param({"Perlin", "OpenSimplex2", "Cellular", "ValueCubic"})
+    public FastNoiseLite.NoiseType noiseType;
+
+    private FastNoiseLite sampler;
+    private int cursor;
+
+    private final float[] columns = new float[BenchmarkCoordinates.COLUMNS];
+    private final float[] section = new float[BenchmarkCoordinates.SECTION_BLOCKS];
+
+    @Setup
+    public void setup() {
+        this.sampler = configure();
+    }
+
+    @Benchmark
+    public float sample2D() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return this.sampler.GetNoise(BenchmarkCoordinates.X[cursor], BenchmarkCoordinates.Z[cursor]);
+    }
+
+    @Benchmark
+    public float sample3D() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return this.sampler.GetNoise(BenchmarkCoordinates.X[cursor], BenchmarkCoordinates.Y[cursor], BenchmarkCoordinates.Z[cursor]);
+    }
+
+    @Benchmark
+    public float[] sample2DChunk() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        int originX = (int) BenchmarkCoordinates.X[cursor] & ~15;
+        int originZ = (int) BenchmarkCoordinates.Z[cursor] & ~15;
+        float[] columns = this.columns;
+        for (int x = 0; x < BenchmarkCoordinates.CHUNK_SIZE; x++) {
+            for (int z = 0; z < BenchmarkCoordinates.CHUNK_SIZE; z++) {
+                columns[(x << 4) | z] = this.sampler.GetNoise(originX + x, originZ + z);
+            }
+        }
+        return columns;
+    }
+
+    @Benchmark
+    public float[] sample3DSection() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        int originX = (int) BenchmarkCoordinates.X[cursor] & ~15;
+        int originY = (int) BenchmarkCoordinates.Y[cursor] & ~15;
+        int originZ = (int) BenchmarkCoordinates.Z[cursor] & ~15;
+        float[] section = this.section;
+        for (int x = 0; x < BenchmarkCoordinates.CHUNK_SIZE; x++) {
+            for (int y = 0; y < BenchmarkCoordinates.CHUNK_SIZE; y++) {
+                for (int z = 0; z < BenchmarkCoordinates.CHUNK_SIZE; z++) {
+                    section[(y << 8) | (x << 4) | z] = this.sampler.GetNoise(originX + x, originY + y, originZ + z);
+                }
+            }
+        }
+        return section;
+    }
+
+    @Benchmark
+    public FastNoiseLite configure() {
+        FastNoiseLite fastNoiseLite = new FastNoiseLite(SEED);
+        fastNoiseLite.SetNoiseType(this.noiseType);
+        fastNoiseLite.SetRotationType3D(FastNoiseLite.RotationType3D.ImproveXZPlanes);
+        fastNoiseLite.SetFractalType(FastNoiseLite.FractalType.FBm);
+        fastNoiseLite.SetFractalOctaves(6);
+        return fastNoiseLite;
+    }
+
+    /**
+     * Reseeds the existing sampler. {@link FastNoiseLite#SetSeed(int)} only stores the seed, so this is the floor for reusing one sampler across seeds.
+     */
+    @Benchmark
+    public FastNoiseLite reseed() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        this.sampler.SetSeed(cursor);
+        return this.sampler;
+    }
+}
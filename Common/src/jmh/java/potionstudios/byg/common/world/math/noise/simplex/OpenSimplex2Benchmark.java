@@ -0,0 +1,85 @@
+package potionstudios.byg.common.world.math.noise.simplex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import potionstudios.byg.common.world.math.noise.BenchmarkCoordinates;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link OpenSimplex2} sampling at the frequencies used by pointy rocks.
+ * <p>
+ * OpenSimplex2 keeps no state and takes its seed per call, so there is no setup to measure; {@link #sample2DFreshSeed()} covers the cost of sampling under a new seed every call instead.
+ * Allocation per operation is reported by the gc profiler configured for the jmh task.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OpenSimplex2Benchmark {
+
+    private static final long SEED = 0x5DEECE66DL;
+
+    @Param({"0.013", "0.026"})
+    public double frequency;
+
+    private int cursor;
+
+    private final float[] columns = new float[BenchmarkCoordinates.COLUMNS];
+    private final float[] section = new float[BenchmarkCoordinates.SECTION_BLOCKS];
+
+    @Benchmark
+    public float sample2D() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return OpenSimplex2.noise2(SEED, BenchmarkCoordinates.X[cursor] * this.frequency, BenchmarkCoordinates.Z[cursor] * this.frequency);
+    }
+
+    @Benchmark
+    public float sample2DFreshSeed() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return OpenSimplex2.noise2(SEED + cursor, BenchmarkCoordinates.X[cursor] * this.frequency, BenchmarkCoordinates.Z[cursor] * this.frequency);
+    }
+
+    @Benchmark
+    public float sample3D() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return OpenSimplex2.noise3_ImproveXZ(SEED, BenchmarkCoordinates.X[cursor] * this.frequency, BenchmarkCoordinates.Y[cursor] * this.frequency, BenchmarkCoordinates.Z[cursor] * this.frequency);
+    }
+
+    @Benchmark
+    public float[] sample2DChunk() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        int originX = (int) BenchmarkCoordinates.X[cursor] & ~15;
+        int originZ = (int) BenchmarkCoordinates.Z[cursor] & ~15;
+        double frequency = this.frequency;
+        float[] columns = this.columns;
+        for (int x = 0; x < BenchmarkCoordinates.CHUNK_SIZE; x++) {
+            for (int z = 0; z < BenchmarkCoordinates.CHUNK_SIZE; z++) {
+                columns[(x << 4) | z] = OpenSimplex2.noise2(SEED, (originX + x) * frequency, (originZ + z) * frequency);
+            }
+        }
+        return columns;
+    }
+
+    @Benchmark
+    public float[] sample3DSection() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        int originX = (int) BenchmarkCoordinates.X[cursor] & ~15;
+        int originY = (int) BenchmarkCoordinates.Y[cursor] & ~15;
+        int originZ = (int) BenchmarkCoordinates.Z[cursor] & ~15;
+        double frequency = this.frequency;
+        float[] section = this.section;
+        for (int x = 0; x < BenchmarkCoordinates.CHUNK_SIZE; x++) {
+            for (int y = 0; y < BenchmarkCoordinates.CHUNK_SIZE; y++) {
+                for (int z = 0; z < BenchmarkCoordinates.CHUNK_SIZE; z++) {
+                    section[(y << 8) | (x << 4) | z] = OpenSimplex2.noise3_ImproveXZ(SEED, (originX + x) * frequency, (originY + y) * frequency, (originZ + z) * frequency);
+                }
+            }
+        }
+        return section;
+    }
+}
@@ -0,0 +1,92 @@
+package potionstudios.byg.common.world.math.noise.worley;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import potionstudios.byg.common.world.math.noise.BenchmarkCoordinates;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link WorleyNoise} sampling and construction.
+ * <p>
+ * Allocation per operation is reported by the gc profiler configured for the jmh task, which matters here since every sample allocates its lattice points.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WorleyNoiseBenchmark {
+
+    private static final long SEED = 1_234_567L;
+
+    @Param({"0.01", "0.1"})
+    public double frequency;
+
+    private WorleyNoise sampler;
+    private int cursor;
+
+    private final double[] columns = new double[BenchmarkCoordinates.COLUMNS];
+    private final double[] section = new double[BenchmarkCoordinates.SECTION_BLOCKS];
+
+    @Setup
+    public void setup() {
+        this.sampler = new WorleyNoise(new Random(SEED));
+    }
+
+    @Benchmark
+    public double sample2D() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return this.sampler.sample2D(BenchmarkCoordinates.X[cursor] * this.frequency, BenchmarkCoordinates.Z[cursor] * this.frequency);
+    }
+
+    @Benchmark
+    public double sample3D() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return this.sampler.sample3D(BenchmarkCoordinates.X[cursor] * this.frequency, BenchmarkCoordinates.Y[cursor] * this.frequency, BenchmarkCoordinates.Z[cursor] * this.frequency);
+    }
+
+    @Benchmark
+    public double[] sample2DChunk() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        int originX = (int) BenchmarkCoordinates.X[cursor] & ~15;
+        int originZ = (int) BenchmarkCoordinates.Z[cursor] & ~15;
+        double frequency = this.frequency;
+        double[] columns = this.columns;
+        for (int x = 0; x < BenchmarkCoordinates.CHUNK_SIZE; x++) {
+            for (int z = 0; z < BenchmarkCoordinates.CHUNK_SIZE; z++) {
+                columns[(x << 4) | z] = this.sampler.sample2D((originX + x) * frequency, (originZ + z) * frequency);
+            }
+        }
+        return columns;
+    }
+
+    @Benchmark
+    public double[] sample3DSection() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        int originX = (int) BenchmarkCoordinates.X[cursor] & ~15;
+        int originY = (int) BenchmarkCoordinates.Y[cursor] & ~15;
+        int originZ = (int) BenchmarkCoordinates.Z[cursor] & ~15;
+        double frequency = this.frequency;
+        double[] section = this.section;
+        for (int x = 0; x < BenchmarkCoordinates.CHUNK_SIZE; x++) {
+            for (int y = 0; y < BenchmarkCoordinates.CHUNK_SIZE; y++) {
+                for (int z = 0; z < BenchmarkCoordinates.CHUNK_SIZE; z++) {
+                    section[(y << 8) | (x << 4) | z] = this.sampler.sample3D((originX + x) * frequency, (originY + y) * frequency, (originZ + z) * frequency);
+                }
+            }
+        }
+        return section;
+    }
+
+    @Benchmark
+    public WorleyNoise create() {
+        int cursor = this.cursor = BenchmarkCoordinates.next(this.cursor);
+        return new WorleyNoise(new Random(SEED + cursor));
+    }
+}
@@ -0,0 +1,100 @@
+package potionstudios.byg.common.world.placement;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares the positions of one chunk built by the list based {@link ChunkCoveringPlacement} against the lazy column cursor it uses now.
+ * <p>
+ * Run with the gc profiler configured for the jmh task, {@code gc.alloc.rate.norm} is the per chunk allocation the placement is meant to remove.
+ * The heightmap downstream creates a new position per column like {@code HeightmapPlacement} does, so it allocates the same for both.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChunkCoveringPlacementBenchmark {
+
+    private static final int CHUNKS = 64;
+
+    @Param({"NONE", "HEIGHTMAP"})
+    public Downstream downstream;
+
+    private final BlockPos[] origins = new BlockPos[CHUNKS];
+    private final int[] heights = new int[16 * 16];
+    private int chunk;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < CHUNKS; i++) {
+            // Decoration origins are the chunk's min corner, offset here to exercise the chunk rounding.
+            this.origins[i] = new BlockPos((i % 8 - 4) * 16 + 3, 0, (i / 8 - 4) * 16 + 11);
+        }
+        for (int i = 0; i < this.heights.length; i++) {
+            this.heights[i] = 62 + (i * 7 % 13);
+        }
+    }
+
+    @Benchmark
+    public void list(Blackhole blackhole) {
+        this.downstream.consume(listColumns(nextOrigin()), this.heights, blackhole);
+    }
+
+    @Benchmark
+    public void cursor(Blackhole blackhole) {
+        this.downstream.consume(ChunkCoveringPlacement.columns(nextOrigin()), this.heights, blackhole);
+    }
+
+    private BlockPos nextOrigin() {
+        BlockPos origin = this.origins[this.chunk];
+        this.chunk = (this.chunk + 1) % CHUNKS;
+        return origin;
+    }
+
+    /**
+     * The positions as {@link ChunkCoveringPlacement} built them before the column cursor.
+     */
+    private static Stream<BlockPos> listColumns(BlockPos blockPos) {
+        List<BlockPos> positions = new ArrayList<>();
+
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                int chunkMinX = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(blockPos.getX()));
+                int chunkMinZ = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(blockPos.getZ()));
+                positions.add(new BlockPos(chunkMinX + x, 0, chunkMinZ + z));
+            }
+        }
+        return positions.stream();
+    }
+
+    public enum Downstream {
+        NONE {
+            @Override
+            void consume(Stream<BlockPos> positions, int[] heights, Blackhole blackhole) {
+                positions.forEach(pos -> blackhole.consume(pos.getX() ^ pos.getZ()));
+            }
+        },
+        HEIGHTMAP {
+            @Override
+            void consume(Stream<BlockPos> positions, int[] heights, Blackhole blackhole) {
+                // Mirrors PlacedFeature pushing each position through the next modifier's flatMap.
+                positions.flatMap(pos -> Stream.of(new BlockPos(pos.getX(), heights[(pos.getX() & 15) << 4 | pos.getZ() & 15], pos.getZ()))).forEach(blackhole::consume);
+            }
+        };
+
+        abstract void consume(Stream<BlockPos> positions, int[] heights, Blackhole blackhole);
+    }
+}
@@ -0,0 +1,182 @@
+package potionstudios.byg.common.world.placement;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.annotation.Nullable;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filtering the candidates of one chunk with {@link NearWaterPlacementFilter}: {@link #scan} is the per candidate scan of every column in range,
+ * {@link #waterLayers} shares the chunk's water bitmap between the candidates.
+ * <p>
+ * Every operation decorates a different chunk, so the bitmaps start empty each time like they do for a new region.
+ * The search range defaults to the 4 the palm trees use.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NearWaterPlacementFilterBenchmark {
+
+    private static final int CHUNKS = 16;
+    private static final int SURFACE_Y = 62;
+    private static final ChunkPos CENTER = new ChunkPos(0, 0);
+
+    @Param({"RIVER", "SWAMP", "DRY"})
+    public Terrain terrain;
+
+    @Param({"4", "16", "64"})
+    public int candidates;
+
+    @Param({"4"})
+    public int range;
+
+    private final TerrainChunk[] chunks = new TerrainChunk[CHUNKS];
+    private final NearWaterPlacementFilter.WaterLayers waterLayers = new NearWaterPlacementFilter.WaterLayers();
+    private int chunk;
+
+    @Setup
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        for (int i = 0; i < CHUNKS; i++) {
+            Random random = new Random(i);
+            BlockPos[] positions = new BlockPos[this.candidates];
+            for (int candidate = 0; candidate < this.candidates; candidate++) {
+                positions[candidate] = new BlockPos(random.nextInt(16), SURFACE_Y + 1, random.nextInt(16));
+            }
+            this.chunks[i] = new TerrainChunk(this.terrain, random, positions);
+        }
+    }
+
+    @Benchmark
+    public int scan() {
+        TerrainChunk chunk = nextChunk();
+        int nearWater = 0;
+        for (BlockPos candidate : chunk.candidates) {
+            if (NearWaterPlacementFilter.scanNearWater(chunk, candidate, this.range)) {
+                nearWater++;
+            }
+        }
+        return nearWater;
+    }
+
+    @Benchmark
+    public int waterLayers() {
+        TerrainChunk chunk = nextChunk();
+        int nearWater = 0;
+        for (BlockPos candidate : chunk.candidates) {
+            if (this.waterLayers.isNearWater(chunk, CENTER, this.range, candidate.getX() - CENTER.getMinBlockX(), candidate.getY() - 1, candidate.getZ() - CENTER.getMinBlockZ())) {
+                nearWater++;
+            }
+        }
+        return nearWater;
+    }
+
+    private TerrainChunk nextChunk() {
+        TerrainChunk chunk = this.chunks[this.chunk];
+        this.chunk = (this.chunk + 1) % CHUNKS;
+        return chunk;
+    }
+
+    public enum Terrain {
+        /**
+         * A five block wide river meandering through the chunk along z, candidates further away than the range check every column.
+         */
+        RIVER {
+            @Override
+            boolean isWater(Random random, int x, int z) {
+                return Math.abs(x - (8 + 6 * Mth.sin(z / 8F))) <= 2;
+            }
+        },
+        /**
+         * Scattered puddles covering about a fifth of the surface, most candidates find water after a few columns.
+         */
+        SWAMP {
+            @Override
+            boolean isWater(Random random, int x, int z) {
+                return random.nextFloat() < 0.2F;
+            }
+        },
+        /**
+         * No water at all, every candidate has to check its whole range.
+         */
+        DRY {
+            @Override
+            boolean isWater(Random random, int x, int z) {
+                return false;
+            }
+        };
+
+        abstract boolean isWater(Random random, int x, int z);
+    }
+
+    /**
+     * A single surface layer covering the center chunk and the largest cached search range around it, everything else is air.
+     */
+    private static final class TerrainChunk implements BlockGetter {
+        private static final int MARGIN = 8;
+        private static final int SIZE = 16 + MARGIN * 2;
+
+        private final BlockState[] surface = new BlockState[SIZE * SIZE];
+        private final BlockPos[] candidates;
+
+        private TerrainChunk(Terrain terrain, Random random, BlockPos[] candidates) {
+            this.candidates = candidates;
+            for (int x = 0; x < SIZE; x++) {
+                for (int z = 0; z < SIZE; z++) {
+                    this.surface[x * SIZE + z] = terrain.isWater(random, x - MARGIN, z - MARGIN) ? Blocks.WATER.defaultBlockState() : Blocks.GRASS_BLOCK.defaultBlockState();
+                }
+            }
+        }
+
+        @Nullable
+        @Override
+        public BlockEntity getBlockEntity(BlockPos pos) {
+            return null;
+        }
+
+        @Override
+        public BlockState getBlockState(BlockPos pos) {
+            int x = pos.getX() + MARGIN;
+            int z = pos.getZ() + MARGIN;
+            if (pos.getY() != SURFACE_Y || x < 0 || x >= SIZE || z < 0 || z >= SIZE) {
+                return Blocks.AIR.defaultBlockState();
+            }
+            return this.surface[x * SIZE + z];
+        }
+
+        @Override
+        public FluidState getFluidState(BlockPos pos) {
+            return getBlockState(pos).getFluidState();
+        }
+
+        @Override
+        public int getHeight() {
+            return 384;
+        }
+
+        @Override
+        public int getMinBuildHeight() {
+            return -64;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package potionstudios.byg.common.world.structure.arch;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.server.Bootstrap;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving and loading one chunk's worth of {@link ArchPiece} positions in the legacy compound list format against the packed, delta encoded long arrays,
+ * both as raw tags and through GZIP compression, which is close to the deflate compression region files use.
+ * <p>
+ * The compressed benchmarks count the bytes they save in {@link CompressedSize}, the compressed size of a format being its {@code compressedBytes} divided by its {@code saves}.
+ * Allocation per operation is reported by the gc profiler configured for the jmh task.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArchPiecePositionsBenchmark {
+
+    /**
+     * How wide the arch is across the chunk, arches widen their spine on both sides by this many blocks.
+     */
+    @Param({"1", "4", "8"})
+    public int width;
+
+    private Set<BlockPos> positions;
+    private CompoundTag legacyTag;
+    private CompoundTag packedTag;
+    private byte[] legacyCompressed;
+    private byte[] packedCompressed;
+
+    @Setup
+    public void setup() throws IOException {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+
+        this.positions = archChunk(this.width);
+        this.legacyTag = saveLegacy();
+        this.packedTag = savePacked();
+        this.legacyCompressed = compress(this.legacyTag);
+        this.packedCompressed = compress(this.packedTag);
+    }
+
+    /**
+     * A slice of an arch crossing a chunk: a parabolic spine widened along z, with the ends that snap to the ocean floor marked the way {@link ArchStructure} marks them.
+     */
+    private static Set<BlockPos> archChunk(int width) {
+        Set<BlockPos> positions = new HashSet<>();
+        int originX = 1_024;
+        int originZ = -2_048;
+        for (int x = 0; x < 16; x++) {
+            int y = 120 - (x - 8) * (x - 8) / 2;
+            for (int z = 8 - width; z <= 8 + width; z++) {
+                positions.add(new BlockPos(originX + x, y, originZ + z));
+                positions.add(new BlockPos(originX + x, y - 1, originZ + z));
+            }
+        }
+        for (int z = 8 - width; z <= 8 + width; z++) {
+            positions.add(new BlockPos(originX, Integer.MIN_VALUE, originZ + z));
+            positions.add(new BlockPos(originX + 15, Integer.MIN_VALUE, originZ + z));
+        }
+        return positions;
+    }
+
+    @Benchmark
+    public CompoundTag saveLegacy() {
+        CompoundTag tag = new CompoundTag();
+        ListTag positions = new ListTag();
+        for (BlockPos position : this.positions) {
+            positions.add(NbtUtils.writeBlockPos(position));
+        }
+        tag.put("positions", positions);
+        return tag;
+    }
+
+    @Benchmark
+    public CompoundTag savePacked() {
+        CompoundTag tag = new CompoundTag();
+        ArchPiece.writePositions(this.positions, tag);
+        return tag;
+    }
+
+    @Benchmark
+    public Set<BlockPos> loadLegacy() {
+        Set<BlockPos> positions = new HashSet<>();
+        ArchPiece.readPositions(this.legacyTag, positions);
+        return positions;
+    }
+
+    @Benchmark
+    public Set<BlockPos> loadPacked() {
+        Set<BlockPos> positions = new HashSet<>();
+        ArchPiece.readPositions(this.packedTag, positions);
+        return positions;
+    }
+
+    @Benchmark
+    public byte[] saveLegacyCompressed(CompressedSize size) throws IOException {
+        return size.count(compress(saveLegacy()));
+    }
+
+    @Benchmark
+    public byte[] savePackedCompressed(CompressedSize size) throws IOException {
+        return size.count(compress(savePacked()));
+    }
+
+    @Benchmark
+    public Set<BlockPos> loadLegacyCompressed() throws IOException {
+        Set<BlockPos> positions = new HashSet<>();
+        ArchPiece.readPositions(NbtIo.readCompressed(new ByteArrayInputStream(this.legacyCompressed)), positions);
+        return positions;
+    }
+
+    @Benchmark
+    public Set<BlockPos> loadPackedCompressed() throws IOException {
+        Set<BlockPos> positions = new HashSet<>();
+        ArchPiece.readPositions(NbtIo.readCompressed(new ByteArrayInputStream(this.packedCompressed)), positions);
+        return positions;
+    }
+
+    private static byte[] compress(CompoundTag tag) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        NbtIo.writeCompressed(tag, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Bytes written by the compressed save benchmarks, reported next to their time.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class CompressedSize {
+        public long compressedBytes;
+        public long saves;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.compressedBytes = 0;
+            this.saves = 0;
+        }
+
+        private byte[] count(byte[] compressed) {
+            this.compressedBytes += compressed.length;
+            this.saves++;
+            return compressed;
+        }
+    }
+}
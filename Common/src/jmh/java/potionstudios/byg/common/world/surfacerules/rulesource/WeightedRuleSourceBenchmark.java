@@ -0,0 +1,124 @@
+package potionstudios.byg.common.world.surfacerules.rulesource;
+
+import net.minecraft.util.KeyDispatchDataCodec;
+import net.minecraft.util.random.SimpleWeightedRandomList;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.PositionalRandomFactory;
+import net.minecraft.world.level.levelgen.SurfaceRules;
+import net.minecraft.world.level.levelgen.XoroshiroRandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.annotation.Nullable;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one chunk's worth of a {@link WeightedRuleSource}: applying it to a surface context and evaluating the columns the surface builder reaches.
+ * {@link #eager} is the previous implementation, which applied a sub-rule for all 256 columns up front; {@link #lazy} is the current one.
+ * <p>
+ * Sub-rules burn {@link #applyCost} tokens when applied, standing in for vanilla rule sources that resolve noises and biome lookups against the context.
+ * A full {@code SurfaceSystem#buildSurface} run needs a live chunk generator and BYG's mixins, so it is left to in-game profiling.
+ * Allocation per operation is reported by the gc profiler configured for the jmh task.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeightedRuleSourceBenchmark {
+
+    private static final int[] SURFACE_Y = {62, 63, 64, 65};
+
+    /**
+     * How many weighted entries the source has, all with distinct sub-rules.
+     */
+    @Param({"2", "8"})
+    public int entries;
+
+    /**
+     * How many of the chunk's columns the surface builder actually evaluates this rule for, e.g. because earlier rules in a sequence matched the rest.
+     */
+    @Param({"16", "64", "256"})
+    public int evaluatedColumns;
+
+    @Param({"0", "200"})
+    public int applyCost;
+
+    private WeightedRuleSource ruleSource;
+    private PositionalRandomFactory random;
+    private int[] columns;
+
+    @Setup
+    public void setup() {
+        SimpleWeightedRandomList.Builder<SurfaceRules.RuleSource> builder = SimpleWeightedRandomList.builder();
+        for (int i = 0; i < this.entries; i++) {
+            builder.add(new CostlyRuleSource(i, this.applyCost), 1 + i);
+        }
+        this.ruleSource = new WeightedRuleSource(builder.build());
+        this.random = new XoroshiroRandomSource(5_000_000L).forkPositional();
+
+        Random shuffle = new Random(1L);
+        int[] columns = new int[256];
+        for (int i = 0; i < columns.length; i++) {
+            int j = shuffle.nextInt(i + 1);
+            columns[i] = columns[j];
+            columns[j] = i;
+        }
+        this.columns = columns;
+    }
+
+    @Benchmark
+    public void eager(Blackhole blackhole) {
+        SurfaceRules.SurfaceRule[][] rules = new SurfaceRules.SurfaceRule[16][16];
+        for (int x = 0; x < rules.length; x++) {
+            for (int z = 0; z < rules[x].length; z++) {
+                rules[x][z] = this.ruleSource.ruleSources().getRandomValue(this.random.at(x, 0, z)).get().apply(null);
+            }
+        }
+        evaluate((x, y, z) -> rules[x & 15][z & 15].tryApply(x, y, z), blackhole);
+    }
+
+    @Benchmark
+    public void lazy(Blackhole blackhole) {
+        evaluate(this.ruleSource.apply(null, this.random), blackhole);
+    }
+
+    private void evaluate(SurfaceRules.SurfaceRule rule, Blackhole blackhole) {
+        for (int i = 0; i < this.evaluatedColumns; i++) {
+            int column = this.columns[i];
+            int x = column >> 4;
+            int z = column & 15;
+            for (int y : SURFACE_Y) {
+                blackhole.consume(rule.tryApply(x, y, z));
+            }
+        }
+    }
+
+    private record CostlyRuleSource(int id, int applyCost) implements SurfaceRules.RuleSource {
+
+        @Override
+        public KeyDispatchDataCodec<? extends SurfaceRules.RuleSource> codec() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SurfaceRules.SurfaceRule apply(SurfaceRules.Context context) {
+            Blackhole.consumeCPU(this.applyCost);
+            return new IdRule(this.id);
+        }
+    }
+
+    private record IdRule(int id) implements SurfaceRules.SurfaceRule {
+        @Nullable
+        @Override
+        public BlockState tryApply(int x, int y, int z) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package potionstudios.byg.util;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Vec3i;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.util.random.SimpleWeightedRandomList;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures matching one sapling pattern around a bonemealed sapling: {@link #perOffset} is the previous matcher, which read every pattern offset from the level for every origin and rotation,
+ * {@link #compiled} reads the window once and compares it against {@link CompiledGrowingPattern}'s masks.
+ * <p>
+ * The {@code MISSING_ONE} layout plants the pattern with one sapling missing, so both matchers have to try every origin, which is what bonemeal spam on an incomplete farm costs. A 1x1 pattern has nothing else to miss and always matches.
+ * Allocation per operation is reported by the gc profiler configured for the jmh task.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompiledGrowingPatternBenchmark {
+
+    @Param({"1x1", "2x2", "3x3"})
+    public String pattern;
+
+    @Param({"COMPLETE", "MISSING_ONE"})
+    public Layout layout;
+
+    private Block sapling;
+    private List<Vec3i> offsets;
+    private CompiledGrowingPattern compiledPattern;
+    private SaplingGrid level;
+    private BlockPos grownPos;
+
+    @Setup
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        this.sapling = Blocks.OAK_SAPLING;
+
+        int size = Integer.parseInt(this.pattern.substring(0, 1));
+        this.offsets = offsets(size);
+        this.compiledPattern = new CompiledGrowingPattern(this.offsets, SimpleWeightedRandomList.empty());
+
+        this.level = new SaplingGrid(this.sapling);
+        // Bonemeal the pattern's first sapling, so matching has to move the origin to find it.
+        this.grownPos = new BlockPos(this.offsets.get(0));
+        for (int i = 0; i < this.offsets.size(); i++) {
+            if (this.layout == Layout.MISSING_ONE && i == this.offsets.size() - 1 && this.offsets.size() > 1) {
+                continue;
+            }
+            this.level.plant(this.offsets.get(i));
+        }
+    }
+
+    @Benchmark
+    public int perOffset() {
+        int range = CompiledGrowingPattern.ORIGIN_RANGE;
+        BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
+        for (int xMove = -range; xMove <= range; xMove++) {
+            for (int zMove = -range; zMove <= range; zMove++) {
+                BlockPos origin = this.grownPos.offset(xMove, 0, zMove);
+                if (patternMatches(this.level, this.offsets, mutableBlockPos, origin, this.sapling, false)) {
+                    return xMove * 8 + zMove;
+                }
+                if (patternMatches(this.level, this.offsets, mutableBlockPos, origin, this.sapling, true)) {
+                    return -(xMove * 8 + zMove);
+                }
+            }
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    @Benchmark
+    public int compiled() {
+        CompiledGrowingPattern pattern = this.compiledPattern;
+        long[] window = CompiledGrowingPattern.readWindow(this.level, this.grownPos, this.sapling, pattern.usedLowMask(), pattern.usedHighMask());
+        int range = CompiledGrowingPattern.ORIGIN_RANGE;
+        for (int xMove = -range; xMove <= range; xMove++) {
+            for (int zMove = -range; zMove <= range; zMove++) {
+                int match = pattern.match(window[0], window[1], xMove, zMove);
+                if (match == 0) {
+                    return xMove * 8 + zMove;
+                }
+                if (match == 1) {
+                    return -(xMove * 8 + zMove);
+                }
+            }
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    @Benchmark
+    public CompiledGrowingPattern compile() {
+        return new CompiledGrowingPattern(this.offsets, SimpleWeightedRandomList.empty());
+    }
+
+    /**
+     * The previous per offset matcher, including the rotated offset it allocated for every check.
+     */
+    private static boolean patternMatches(BlockGetter level, List<Vec3i> offsets, BlockPos.MutableBlockPos mutableBlockPos, BlockPos pos, Block block, boolean rotated) {
+        for (Vec3i offset : offsets) {
+            if (rotated) {
+                offset = new Vec3i(offset.getZ(), offset.getY(), offset.getX());
+            }
+            mutableBlockPos.set(pos).move(offset);
+            if (!level.getBlockState(mutableBlockPos).is(block)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Offsets of a square pattern of saplings, laid out the same way {@link FeatureGrowerFromBlockPattern#serializePatterns} reads configs.
+     */
+    private static List<Vec3i> offsets(int size) {
+        List<Vec3i> offsets = new ArrayList<>();
+        if (size == 1) {
+            offsets.add(Vec3i.ZERO);
+            return offsets;
+        }
+        for (int z = 0; z < size; z++) {
+            for (int x = 0; x < size; x++) {
+                offsets.add(new Vec3i(x - size / 2, 0, z - size / 2));
+            }
+        }
+        return offsets;
+    }
+
+    public enum Layout {
+        COMPLETE,
+        MISSING_ONE
+    }
+
+    /**
+     * A flat layer of saplings around the origin, everything else is air.
+     */
+    private static final class SaplingGrid implements BlockGetter {
+        private static final int RADIUS = CompiledGrowingPattern.WINDOW_RADIUS * 2;
+        private static final int SIZE = RADIUS * 2 + 1;
+
+        private final BlockState[] states = new BlockState[SIZE * SIZE];
+        private final Block sapling;
+
+        private SaplingGrid(Block sapling) {
+            this.sapling = sapling;
+            Arrays.fill(this.states, Blocks.AIR.defaultBlockState());
+        }
+
+        private void plant(Vec3i pos) {
+            this.states[index(pos.getX(), pos.getZ())] = this.sapling.defaultBlockState();
+        }
+
+        private static int index(int x, int z) {
+            return (x + RADIUS) * SIZE + z + RADIUS;
+        }
+
+        @Nullable
+        @Override
+        public BlockEntity getBlockEntity(BlockPos pos) {
+            return null;
+        }
+
+        @Override
+        public BlockState getBlockState(BlockPos pos) {
+            if (pos.getY() != 0 || Math.abs(pos.getX()) > RADIUS || Math.abs(pos.getZ()) > RADIUS) {
+                return Blocks.AIR.defaultBlockState();
+            }
+            return this.states[index(pos.getX(), pos.getZ())];
+        }
+
+        @Override
+        public FluidState getFluidState(BlockPos pos) {
+            return getBlockState(pos).getFluidState();
+        }
+
+        @Override
+        public int getHeight() {
+            return 384;
+        }
+
+        @Override
+        public int getMinBuildHeight() {
+            return -64;
+        }
+    }
+}
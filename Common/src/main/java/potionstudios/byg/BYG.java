@@ -17,6 +17,7 @@ import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.SignBlock;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.material.Material;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -37,12 +38,15 @@ import potionstudios.byg.server.command.ReloadConfigsCommand;
 import potionstudios.byg.server.command.ResetConfigsCommand;
 import potionstudios.byg.server.command.UpdateConfigsCommand;
 import potionstudios.byg.server.command.ValidateConfigsCommand;
+import potionstudios.byg.server.command.WorldGenTimingsCommand;
+import potionstudios.byg.util.BlockStateTagReplacements;
 import potionstudios.byg.util.FileUtils;
 import potionstudios.byg.util.MLBlockTags;
 import potionstudios.byg.util.ModPlatform;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -54,9 +58,11 @@ public class BYG {
     public static boolean INITIALIZED;
 
     private static final Map<Block, Predicate<BlockBehaviour.BlockStateBase>> BLOCKSTATE_IS_REPLACEMENTS = new HashMap<>();
+    private static volatile Block[] compiledBlockstateIsReplacements = new Block[0];
 
     public static void commonLoad() {
         registerBlockTagReplacements();
+        ModPlatform.INSTANCE.addTagsUpdatedListener(access -> compileBlockstateIsReplacements());
 
         PoiTypesAccess.byg_invokeRegisterBlockStates(BYGPoiTypes.FORAGER.asHolder());
 
@@ -65,7 +71,7 @@ public class BYG {
         logConfigErrors();
 
         BYGEntities.registerSpawnPlacements();
-        FileUtils.backUpDirectory(ModPlatform.INSTANCE.configPath(), "last_working_configs_backup");
+        FileUtils.backUpDirectoryIfChanged(ModPlatform.INSTANCE.configPath(), "last_working_configs_backup");
 
         if (Boolean.getBoolean("bygDev")) {
             ModPlatform.INSTANCE.addTagsUpdatedListener(access -> {
@@ -100,6 +106,47 @@ public class BYG {
         return BLOCKSTATE_IS_REPLACEMENTS;
     }
 
+    /**
+     * Evaluates every registered replacement against every block state once and stores the results as a bitmask on the state itself.
+     * Must be re-run whenever block tags are (re)bound, as the tag replacements are only as fresh as the last compile.
+     */
+    public static void compileBlockstateIsReplacements() {
+        Block[] targets = BLOCKSTATE_IS_REPLACEMENTS.keySet().toArray(Block[]::new);
+        if (targets.length > Integer.SIZE) {
+            throw new IllegalStateException("Too many blockstate \"is\" replacements registered: %s, the maximum is %s.".formatted(targets.length, Integer.SIZE));
+        }
+        List<Predicate<BlockBehaviour.BlockStateBase>> predicates = new ArrayList<>(targets.length);
+        for (Block target : targets) {
+            predicates.add(BLOCKSTATE_IS_REPLACEMENTS.get(target));
+        }
+
+        for (Block block : Registry.BLOCK) {
+            for (BlockState state : block.getStateDefinition().getPossibleStates()) {
+                int mask = 0;
+                for (int i = 0; i < predicates.size(); i++) {
+                    if (predicates.get(i).test(state)) {
+                        mask |= 1 << i;
+                    }
+                }
+                ((BlockStateTagReplacements) state).setTagReplacementMask(mask);
+            }
+        }
+        compiledBlockstateIsReplacements = targets;
+    }
+
+    /**
+     * @return The bit the given block's replacement was compiled into, or 0 if the block has no replacement.
+     */
+    public static int getBlockstateIsReplacementBit(Block block) {
+        Block[] targets = compiledBlockstateIsReplacements;
+        for (int i = 0; i < targets.length; i++) {
+            if (targets[i] == block) {
+                return 1 << i;
+            }
+        }
+        return 0;
+    }
+
     public static void attachCommands(final CommandDispatcher<CommandSourceStack> dispatcher, final Commands.CommandSelection environmentType) {
         LiteralArgumentBuilder<CommandSourceStack> bygCommands = Commands.literal(BYG.MOD_ID);
 
@@ -110,6 +157,7 @@ public class BYG {
         config.then(ResetConfigsCommand.register());
 
         bygCommands.then(config);
+        bygCommands.then(WorldGenTimingsCommand.register());
 
         dispatcher.register(bygCommands);
     }
@@ -11,9 +11,12 @@ import potionstudios.byg.util.ModPlatform;
 
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.function.Supplier;
 
 public record BiomepediaInventoryConfig(boolean visible, PlayerInventoryPosition settings) {
 
+    public static final Supplier<Path> CONFIG_PATH = () -> ModPlatform.INSTANCE.configPath().resolve("client").resolve("biomepedia_inventory.json5");
+
     public static boolean server_value = true;
 
     public static final Codec<BiomepediaInventoryConfig> CODEC = RecordCodecBuilder.create(builder ->
@@ -43,7 +46,7 @@ public record BiomepediaInventoryConfig(boolean visible, PlayerInventoryPosition
 
 
     private static BiomepediaInventoryConfig readConfig(boolean recreate) {
-        final Path path = ModPlatform.INSTANCE.configPath().resolve("client").resolve("biomepedia_inventory.json5");
+        final Path path = CONFIG_PATH.get();
 
         if (!path.toFile().exists() || recreate) {
             JanksonUtil.createConfig(path, CODEC, JanksonUtil.HEADER_CLOSED, Util.make(new HashMap<>(), map -> {
@@ -0,0 +1,63 @@
+package potionstudios.byg.client;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import corgitaco.corgilib.serialization.jankson.JanksonJsonOps;
+import corgitaco.corgilib.serialization.jankson.JanksonUtil;
+import net.minecraft.Util;
+import potionstudios.byg.BYG;
+import potionstudios.byg.config.BYGConfigHandler;
+import potionstudios.byg.util.ModPlatform;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.function.Supplier;
+
+public record LeafParticlesConfig(int maxParticles, int simplifiedDistance, int cullDistance) {
+
+    public static final Supplier<Path> CONFIG_PATH = () -> ModPlatform.INSTANCE.configPath().resolve("client").resolve("leaf_particles.json5");
+
+    public static final Codec<LeafParticlesConfig> CODEC = RecordCodecBuilder.create(builder ->
+            builder.group(
+                    Codec.intRange(0, 16384).fieldOf("max_particles").forGetter(LeafParticlesConfig::maxParticles),
+                    Codec.intRange(0, 256).fieldOf("simplified_distance").forGetter(LeafParticlesConfig::simplifiedDistance),
+                    Codec.intRange(0, 256).fieldOf("cull_distance").forGetter(LeafParticlesConfig::cullDistance)
+            ).apply(builder, LeafParticlesConfig::new));
+
+    public static final LeafParticlesConfig DEFAULT = new LeafParticlesConfig(1500, 16, 32);
+
+    public static LeafParticlesConfig INSTANCE = null;
+
+    public static LeafParticlesConfig getConfig() {
+        return getConfig(false, false);
+    }
+
+    public static LeafParticlesConfig getConfig(boolean serialize, boolean recreate) {
+        if (INSTANCE == null || serialize || recreate) {
+            INSTANCE = readConfig(recreate);
+        }
+        return INSTANCE;
+    }
+
+
+    private static LeafParticlesConfig readConfig(boolean recreate) {
+        final Path path = CONFIG_PATH.get();
+
+        if (!path.toFile().exists() || recreate) {
+            JanksonUtil.createConfig(path, CODEC, JanksonUtil.HEADER_CLOSED, Util.make(new HashMap<>(), map -> {
+                map.put("max_particles", "The maximum amount of falling leaf particles alive at once, new leaves don't spawn while at the limit.");
+                map.put("simplified_distance", "Falling leaves further than this many blocks from the camera disappear shortly after landing instead of lying on the ground for their full lifetime.");
+                map.put("cull_distance", "Falling leaves don't spawn further than this many blocks from the camera.");
+            }), JanksonJsonOps.INSTANCE, DEFAULT);
+        }
+        BYG.logDebug(String.format("\"%s\" was read.", path.toString()));
+
+        try {
+            return JanksonUtil.readConfig(path, CODEC, JanksonJsonOps.INSTANCE);
+        } catch (Exception e) {
+            e.printStackTrace();
+            BYGConfigHandler.CONFIG_EXCEPTIONS.add(e);
+            return DEFAULT;
+        }
+    }
+}
@@ -1,25 +1,20 @@
 package potionstudios.byg.common.block;
 
 import com.google.common.collect.ImmutableList;
-import com.mojang.datafixers.util.Pair;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Vec3i;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.TagKey;
 import net.minecraft.util.RandomSource;
-import net.minecraft.util.random.SimpleWeightedRandomList;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.MushroomBlock;
 import net.minecraft.world.level.block.state.BlockState;
-import potionstudios.byg.common.block.sapling.GrowingPatterns;
+import potionstudios.byg.util.CompiledGrowingPattern;
 import potionstudios.byg.util.FeatureGrowerFromBlockPattern;
 
-import java.util.List;
-
 public class BYGMushroomBlock extends MushroomBlock implements FeatureGrowerFromBlockPattern {
 
-    private ImmutableList<Pair<List<Vec3i>, SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner>>> patternsToSpawner = ImmutableList.of();
+    private ImmutableList<CompiledGrowingPattern> patternsToSpawner = ImmutableList.of();
     private final TagKey<Block> groundTag;
 
     public BYGMushroomBlock(Properties $$0, TagKey<Block> groundTag) {
@@ -39,12 +34,12 @@ public class BYGMushroomBlock extends MushroomBlock implements FeatureGrowerFrom
     }
 
     @Override
-    public ImmutableList<Pair<List<Vec3i>, SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner>>> byg_getPatterns() {
+    public ImmutableList<CompiledGrowingPattern> byg_getPatterns() {
         return this.patternsToSpawner;
     }
 
     @Override
-    public void byg_setPatterns(ImmutableList<Pair<List<Vec3i>, SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner>>> map) {
+    public void byg_setPatterns(ImmutableList<CompiledGrowingPattern> map) {
         this.patternsToSpawner = map;
     }
 }
@@ -59,6 +59,14 @@ public class HypogealImperiumBlock extends BaseEntityBlock {
 
 
 
+    @Override
+    public void neighborChanged(BlockState state, Level level, BlockPos pos, Block block, BlockPos fromPos, boolean isMoving) {
+        if (level.getBlockEntity(pos) instanceof HypogealImperiumBlockEntity blockEntity) {
+            blockEntity.invalidateScan();
+        }
+        super.neighborChanged(state, level, pos, block, fromPos, isMoving);
+    }
+
     @Override
     public void onRemove(BlockState state, Level worldIn, BlockPos pos, BlockState newState, boolean isMoving) {
         if (state.getBlock() != newState.getBlock()) {
@@ -1,26 +1,22 @@
 package potionstudios.byg.common.block.sapling;
 
 import com.google.common.collect.ImmutableList;
-import com.mojang.datafixers.util.Pair;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Vec3i;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.tags.TagKey;
 import net.minecraft.util.RandomSource;
-import net.minecraft.util.random.SimpleWeightedRandomList;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.SaplingBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
+import potionstudios.byg.util.CompiledGrowingPattern;
 import potionstudios.byg.util.FeatureGrowerFromBlockPattern;
 import potionstudios.byg.util.ModPlatform;
 
-import java.util.List;
-
 public class BYGSaplingBlock extends SaplingBlock implements FeatureGrowerFromBlockPattern {
 
-    private ImmutableList<Pair<List<Vec3i>, SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner>>> patternsToSpawner = ImmutableList.of();
+    private ImmutableList<CompiledGrowingPattern> patternsToSpawner = ImmutableList.of();
     private final TagKey<Block> groundTag;
 
     public BYGSaplingBlock(Properties properties, TagKey<Block> groundTag) {
@@ -51,12 +47,12 @@ public class BYGSaplingBlock extends SaplingBlock implements FeatureGrowerFromBl
     }
 
     @Override
-    public ImmutableList<Pair<List<Vec3i>, SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner>>> byg_getPatterns() {
+    public ImmutableList<CompiledGrowingPattern> byg_getPatterns() {
         return this.patternsToSpawner;
     }
 
     @Override
-    public void byg_setPatterns(ImmutableList<Pair<List<Vec3i>, SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner>>> map) {
+    public void byg_setPatterns(ImmutableList<CompiledGrowingPattern> map) {
         this.patternsToSpawner = map;
     }
 }
\ No newline at end of file
@@ -718,8 +718,8 @@ public record GrowingPatterns(boolean logGrowth,
             ).apply(builder, (Boolean logGrowth1, Map<Block, List<GrowingPatternEntry>> patternsForBlock1) -> new GrowingPatterns(logGrowth1, Suppliers.memoize(() -> patternsForBlock1)))
     );
 
-    private static final Path PATH = ModPlatform.INSTANCE.configPath().resolve("growing-patterns.json5");
-    private static final Path OLD_PATH = ModPlatform.INSTANCE.configPath().resolve(BYG.MOD_ID + "-sapling-patterns.json");
+    public static final Path PATH = ModPlatform.INSTANCE.configPath().resolve("growing-patterns.json5");
+    public static final Path OLD_PATH = ModPlatform.INSTANCE.configPath().resolve(BYG.MOD_ID + "-sapling-patterns.json");
 
 
     public static GrowingPatterns getConfig() {
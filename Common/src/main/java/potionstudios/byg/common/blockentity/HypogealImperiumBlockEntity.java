@@ -8,6 +8,7 @@ import net.minecraft.network.chat.Component;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.ContainerHelper;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.effect.MobEffectInstance;
@@ -20,7 +21,6 @@ import net.minecraft.world.inventory.ContainerData;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.entity.RandomizableContainerBlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
@@ -30,7 +30,6 @@ import potionstudios.byg.common.block.nether.HypogealImperiumBlock;
 import potionstudios.byg.common.item.BYGItems;
 
 import java.util.List;
-import java.util.Random;
 
 public class HypogealImperiumBlockEntity extends RandomizableContainerBlockEntity {
 
@@ -40,6 +39,13 @@ public class HypogealImperiumBlockEntity extends RandomizableContainerBlockEntit
     public int fuel;
     public int damageTime;
 
+    private final ImperiumScan scan = new ImperiumScan();
+    private final ImperiumScan.Freezer freezer = (pos, frozen) -> {
+        this.level.setBlockAndUpdate(pos, frozen);
+        useFuel(this.level, this.worldPosition, this.getBlockState(), this);
+        return this.getFuel() > 0;
+    };
+
     private final ContainerData dataAccess = new ContainerData() {
         public int get(int index) {
             if (index == 0) {
@@ -128,8 +134,8 @@ public class HypogealImperiumBlockEntity extends RandomizableContainerBlockEntit
 
     public static void setLit(Level level, BlockPos blockPos, BlockState blockState, HypogealImperiumBlockEntity hypogealImperiumBlockEntity) {
         BlockState state = hypogealImperiumBlockEntity.getBlockState();
-        if (hypogealImperiumBlockEntity.isLit() && state.getBlock() instanceof HypogealImperiumBlock) {
-            level.setBlock(hypogealImperiumBlockEntity.worldPosition, state.setValue(HypogealImperiumBlock.LIT, hypogealImperiumBlockEntity.isLit()), 3);
+        if (hypogealImperiumBlockEntity.isLit() && state.getBlock() instanceof HypogealImperiumBlock && !state.getValue(HypogealImperiumBlock.LIT)) {
+            level.setBlock(hypogealImperiumBlockEntity.worldPosition, state.setValue(HypogealImperiumBlock.LIT, true), 3);
             hypogealImperiumBlockEntity.setChanged();
         }
     }
@@ -143,6 +149,7 @@ public class HypogealImperiumBlockEntity extends RandomizableContainerBlockEntit
             if (itemFuelItem.getItem() == BYGItems.SUBZERO_CRYSTAL_SHARD.get() && hypogealImperiumBlockEntity.getFuel() <= 0) {
                 hypogealImperiumBlockEntity.setFuel(9);
                 itemFuelItem.shrink(1);
+                hypogealImperiumBlockEntity.setChanged();
             }
             if (itemCatalystItem.getItem() == BYGItems.SUBZERO_CRYSTAL_CLUSTER.get()) {
                 if (hypogealImperiumBlockEntity.getFuel() > 0) {
@@ -156,23 +163,24 @@ public class HypogealImperiumBlockEntity extends RandomizableContainerBlockEntit
                     if (resultItem.getItem() == BYGItems.SUBZERO_CRYSTAL_CLUSTER.get()) {
                         resultItem.setCount(resultItem.getCount() + 1);
                     }
+                    hypogealImperiumBlockEntity.setChanged();
                 }
             }
         }
     }
 
     public static void addParticles(Level level, BlockPos blockPos, BlockState blockState, HypogealImperiumBlockEntity hypogealImperiumBlockEntity) {
-        int h = 6 + hypogealImperiumBlockEntity.getCrystal();
-        if (level.isClientSide) {
-            for (int x1 = hypogealImperiumBlockEntity.getBlockPos().getX() - h; x1 <= hypogealImperiumBlockEntity.getBlockPos().getX() + h; ++x1) {
-                for (int y1 = hypogealImperiumBlockEntity.getBlockPos().getY(); y1 <= hypogealImperiumBlockEntity.getBlockPos().getY() + 6; ++y1) {
-                    for (int z1 = hypogealImperiumBlockEntity.getBlockPos().getZ() - h; z1 <= hypogealImperiumBlockEntity.getBlockPos().getZ() + h; ++z1) {
-                        if (hypogealImperiumBlockEntity.getFuel() > 0) {
-                            Random rand = new Random();
-                            int i = rand.nextInt(7);
-                            if (i >= 4) {
-                                level.addParticle(ParticleTypes.WHITE_ASH, (double) x1, (double) y1, (double) z1, 0D, 5.0E-4D, 0D);
-                            }
+        if (level.isClientSide && hypogealImperiumBlockEntity.getFuel() > 0) {
+            int h = hypogealImperiumBlockEntity.getRadius();
+            RandomSource random = level.random;
+            int x = blockPos.getX();
+            int y = blockPos.getY();
+            int z = blockPos.getZ();
+            for (int x1 = x - h; x1 <= x + h; ++x1) {
+                for (int y1 = y; y1 <= y + 6; ++y1) {
+                    for (int z1 = z - h; z1 <= z + h; ++z1) {
+                        if (random.nextInt(7) >= 4) {
+                            level.addParticle(ParticleTypes.WHITE_ASH, x1, y1, z1, 0D, 5.0E-4D, 0D);
                         }
                     }
                 }
@@ -181,8 +189,9 @@ public class HypogealImperiumBlockEntity extends RandomizableContainerBlockEntit
     }
 
     public static void addEffectsToMobs(Level level, BlockPos blockPos, BlockState blockState, HypogealImperiumBlockEntity hypogealImperiumBlockEntity) {
-        if (!level.isClientSide) {
-            AABB axisalignedbb = (new AABB(hypogealImperiumBlockEntity.worldPosition)).inflate(6 + hypogealImperiumBlockEntity.getCrystal()).expandTowards(0.0D, level.getHeight(), 0.0D);
+        if (!level.isClientSide && hypogealImperiumBlockEntity.getFuel() > 0) {
+            // Bounded to the same radius as the block scan instead of stretching the box up to the world height.
+            AABB axisalignedbb = new AABB(blockPos).inflate(hypogealImperiumBlockEntity.getRadius());
             List<Monster> list = level.getEntitiesOfClass(Monster.class, axisalignedbb);
             for (Monster mob : list) {
                 if (hypogealImperiumBlockEntity.getFuel() > 0) {
@@ -198,38 +207,34 @@ public class HypogealImperiumBlockEntity extends RandomizableContainerBlockEntit
         }
     }
 
-
+    /**
+     * Freezes water and lava sources around the imperium, sweeping the region incrementally with {@link ImperiumScan}.
+     */
     public static void changeBlocksInRadius(Level level, BlockPos blockPos, BlockState blockState, HypogealImperiumBlockEntity hypogealImperiumBlockEntity) {
-        if (!level.isClientSide) {
-            if (hypogealImperiumBlockEntity.getFuel() > 0) {
-                int h = 6 + hypogealImperiumBlockEntity.getCrystal();
-                for (int x1 = hypogealImperiumBlockEntity.getBlockPos().getX() - h; x1 <= hypogealImperiumBlockEntity.getBlockPos().getX() + h; ++x1) {
-                    for (int y1 = hypogealImperiumBlockEntity.getBlockPos().getY() - 2; y1 <= hypogealImperiumBlockEntity.getBlockPos().getY() + 5; ++y1) {
-                        for (int z1 = hypogealImperiumBlockEntity.getBlockPos().getZ() - h; z1 <= hypogealImperiumBlockEntity.getBlockPos().getZ() + h; ++z1) {
-                            if (level.getBlockState(new BlockPos(x1, y1, z1)) == Blocks.WATER.defaultBlockState()) {
-                                level.setBlockAndUpdate(new BlockPos(x1, y1, z1), Blocks.ICE.defaultBlockState());
-                                useFuel(level, blockPos, blockState, hypogealImperiumBlockEntity);
-                            }
-                            if (level.getBlockState(new BlockPos(x1, y1, z1)) == Blocks.LAVA.defaultBlockState()) {
-                                level.setBlockAndUpdate(new BlockPos(x1, y1, z1), Blocks.OBSIDIAN.defaultBlockState());
-                                useFuel(level, blockPos, blockState, hypogealImperiumBlockEntity);
-                            }
-                        }
-                    }
-                }
-            }
+        if (level.isClientSide || hypogealImperiumBlockEntity.getFuel() <= 0) {
+            return;
         }
+        hypogealImperiumBlockEntity.scan.tick(level, blockPos, hypogealImperiumBlockEntity.getRadius(), hypogealImperiumBlockEntity.freezer);
     }
 
     public static void useFuel(Level level, BlockPos blockPos, BlockState blockState, HypogealImperiumBlockEntity hypogealImperiumBlockEntity) {
-        int useFuel;
-        Random random = new Random();
-        useFuel = random.nextInt(11);
-        if (useFuel > 9) {
+        if (level.random.nextInt(11) > 9) {
             hypogealImperiumBlockEntity.setFuel(hypogealImperiumBlockEntity.getFuel() - 1);
+            hypogealImperiumBlockEntity.setChanged();
         }
     }
 
+    /**
+     * Wakes a settled region so sweeping resumes next tick.
+     */
+    public void invalidateScan() {
+        this.scan.invalidate();
+    }
+
+    private int getRadius() {
+        return 6 + this.getCrystal();
+    }
+
     @Override
     protected @NotNull Component getDefaultName() {
         return Component.translatable("container.hypogeal_imperium_container");
@@ -0,0 +1,99 @@
+package potionstudios.byg.common.blockentity;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Resumable sweep of the region a {@link HypogealImperiumBlockEntity} freezes water and lava sources in.
+ * <p>
+ * The region is swept at most {@link #CELLS_PER_TICK} cells per tick from a cursor.
+ * Once a full sweep finds nothing to convert, the region is considered settled and is only swept again after {@link #SETTLED_RESCAN_DELAY} ticks,
+ * or sooner when {@link #invalidate()} is called or the radius changes.
+ */
+final class ImperiumScan {
+
+    static final int CELLS_PER_TICK = 512;
+    static final int SETTLED_RESCAN_DELAY = 40;
+    static final int MIN_Y = -2;
+    static final int HEIGHT = 8;
+
+    private final BlockPos.MutableBlockPos scanPos = new BlockPos.MutableBlockPos();
+    private int cursor;
+    private int radius = -1;
+    private int settledTicks;
+    private boolean convertedThisSweep;
+
+    /**
+     * Sweeps the next cells of the region around the center.
+     *
+     * @param freezer Converts a source, returning false once the imperium has no fuel left to convert more.
+     */
+    void tick(BlockGetter level, BlockPos center, int radius, Freezer freezer) {
+        if (radius != this.radius) {
+            this.radius = radius;
+            restart();
+        }
+        if (this.settledTicks > 0) {
+            this.settledTicks--;
+            return;
+        }
+
+        int width = radius * 2 + 1;
+        int volume = width * width * HEIGHT;
+        int cursor = this.cursor;
+        int end = Math.min(volume, cursor + CELLS_PER_TICK);
+        BlockPos.MutableBlockPos mutable = this.scanPos;
+        boolean hasFuel = true;
+        for (; cursor < end && hasFuel; cursor++) {
+            int dx = cursor % width;
+            int dz = (cursor / width) % width;
+            int dy = cursor / (width * width);
+            mutable.set(center.getX() - radius + dx, center.getY() + MIN_Y + dy, center.getZ() - radius + dz);
+
+            BlockState state = level.getBlockState(mutable);
+            BlockState frozen;
+            if (state == Blocks.WATER.defaultBlockState()) {
+                frozen = Blocks.ICE.defaultBlockState();
+            } else if (state == Blocks.LAVA.defaultBlockState()) {
+                frozen = Blocks.OBSIDIAN.defaultBlockState();
+            } else {
+                continue;
+            }
+            hasFuel = freezer.freeze(mutable, frozen);
+            this.convertedThisSweep = true;
+        }
+
+        if (cursor >= volume) {
+            if (!this.convertedThisSweep) {
+                this.settledTicks = SETTLED_RESCAN_DELAY;
+            }
+            cursor = 0;
+            this.convertedThisSweep = false;
+        }
+        this.cursor = cursor;
+    }
+
+    /**
+     * Wakes a settled region so sweeping resumes next tick from where the cursor is.
+     * The current sweep is marked dirty so it can't settle before wrapping around to cells behind the cursor.
+     */
+    void invalidate() {
+        this.settledTicks = 0;
+        this.convertedThisSweep = true;
+    }
+
+    /**
+     * Restarts the region sweep from the beginning, the cursor is meaningless once the region's size changes.
+     */
+    private void restart() {
+        this.cursor = 0;
+        this.settledTicks = 0;
+        this.convertedThisSweep = false;
+    }
+
+    interface Freezer {
+        boolean freeze(BlockPos pos, BlockState frozen);
+    }
+}
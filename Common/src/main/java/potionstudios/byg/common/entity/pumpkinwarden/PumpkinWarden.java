@@ -25,12 +25,14 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.LightLayer;
 import net.minecraft.world.level.block.AttachedStemBlock;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.StemGrownBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.gameevent.GameEvent;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
+import potionstudios.byg.util.LevelBlockIndex;
+import potionstudios.byg.util.LevelBlockIndexHolder;
 import software.bernie.geckolib3.core.IAnimatable;
 import software.bernie.geckolib3.core.PlayState;
 import software.bernie.geckolib3.core.builder.AnimationBuilder;
@@ -40,7 +42,6 @@ import software.bernie.geckolib3.core.manager.AnimationData;
 import software.bernie.geckolib3.core.manager.AnimationFactory;
 
 import javax.annotation.Nullable;
-import java.util.List;
 import java.util.Optional;
 
 public class PumpkinWarden extends PathfinderMob implements IAnimatable {
@@ -251,7 +252,44 @@ public class PumpkinWarden extends PathfinderMob implements IAnimatable {
         return this.entityData.get(DATA_CARRY_STATE).orElse(null);
     }
 
-    static class PumpkinWardenTakeBlockGoal extends MoveToBlockGoal {
+    /**
+     * Move to block goal that looks up its targets in the level's {@link LevelBlockIndex} instead of scanning every block within range.
+     */
+    abstract static class IndexedMoveToBlockGoal extends MoveToBlockGoal {
+        private final int searchRange;
+        private final int verticalSearchRange;
+        private final Block[] targetBlocks;
+
+        public IndexedMoveToBlockGoal(PathfinderMob mob, double speed, int range, int verticalRange, Block... targetBlocks) {
+            super(mob, speed, range, verticalRange);
+            this.searchRange = range;
+            this.verticalSearchRange = verticalRange;
+            this.targetBlocks = targetBlocks;
+        }
+
+        @Override
+        protected boolean findNearestBlock() {
+            if (!(this.mob.level instanceof LevelBlockIndexHolder indexHolder)) {
+                return super.findNearestBlock();
+            }
+            LevelBlockIndex index = indexHolder.getLevelBlockIndex();
+            BlockPos origin = this.mob.blockPosition();
+            BlockPos nearest = null;
+            for (Block targetBlock : this.targetBlocks) {
+                BlockPos pos = index.findNearest(targetBlock, origin, this.searchRange, this.verticalSearchRange, candidate -> this.mob.isWithinRestriction(candidate) && this.isValidTarget(this.mob.level, candidate));
+                if (pos != null && (nearest == null || pos.distSqr(origin) < nearest.distSqr(origin))) {
+                    nearest = pos;
+                }
+            }
+            if (nearest == null) {
+                return false;
+            }
+            this.blockPos = nearest;
+            return true;
+        }
+    }
+
+    static class PumpkinWardenTakeBlockGoal extends IndexedMoveToBlockGoal {
         private final PumpkinWarden warden;
 
         /**
@@ -267,7 +305,7 @@ public class PumpkinWarden extends PathfinderMob implements IAnimatable {
         private int searchNearestBlockDelay = 0;
 
         public PumpkinWardenTakeBlockGoal(PumpkinWarden p, double speed, int range, int y) {
-            super(p, speed, range, y);
+            super(p, speed, range, y, Blocks.PUMPKIN, Blocks.MELON);
             this.warden = p;
         }
 
@@ -333,7 +371,7 @@ public class PumpkinWarden extends PathfinderMob implements IAnimatable {
         }
     }
 
-    static class PumpkinWardenLeaveBlockGoal extends MoveToBlockGoal {
+    static class PumpkinWardenLeaveBlockGoal extends IndexedMoveToBlockGoal {
         public PumpkinWarden warden;
 
         /**
@@ -349,7 +387,7 @@ public class PumpkinWarden extends PathfinderMob implements IAnimatable {
         private int searchNearestBlockDelay = 0;
 
         public PumpkinWardenLeaveBlockGoal(PumpkinWarden warden, double speed, int range, int y) {
-            super(warden, speed, range, y);
+            super(warden, speed, range, y, Blocks.CARVED_PUMPKIN);
             this.warden = warden;
         }
 
@@ -413,18 +451,17 @@ public class PumpkinWarden extends PathfinderMob implements IAnimatable {
         }
     }
 
-    static class StayByBellGoal extends MoveToBlockGoal {
+    static class StayByBellGoal extends IndexedMoveToBlockGoal {
         public PumpkinWarden warden;
 
         public StayByBellGoal(PumpkinWarden warden, double $$1, int $$2) {
-            super(warden, $$1, $$2, 12);
+            super(warden, $$1, $$2, 12, Blocks.BELL);
             this.warden = warden;
         }
 
         @Override
         protected boolean isValidTarget(LevelReader world, BlockPos var2) {
-            List<BlockState> blockStates = world.getBlockStates(new AABB(warden.blockPosition()).inflate(30)).toList();
-            return !blockStates.get(warden.random.nextInt(blockStates.size())).isAir();
+            return world.getBlockState(var2).is(Blocks.BELL);
         }
     }
 }
@@ -1,12 +1,23 @@
 package potionstudios.byg.common.particles;
 
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.*;
 import net.minecraft.core.particles.SimpleParticleType;
 import net.minecraft.util.Mth;
+import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Nullable;
+import potionstudios.byg.client.LeafParticlesConfig;
+import potionstudios.byg.mixin.access.client.ParticleAccess;
 
 public class FallingLeafParticle extends TextureSheetParticle {
+
+    private static final int DISTANCE_CHECK_INTERVAL = 20;
+    private static final int SIMPLIFIED_GROUND_LIFETIME = 20;
+
+    private boolean simplified;
+    private long lastTickedGameTime;
+
     protected FallingLeafParticle(ClientLevel world, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed) {
         super(world, x, y, z, xSpeed, ySpeed, zSpeed);
         this.quadSize *= this.random.nextFloat() * 0.6F + 0.6F;
@@ -16,6 +27,35 @@ public class FallingLeafParticle extends TextureSheetParticle {
         this.gravity = 1F;
         this.yd = -Math.abs(this.yd);
         this.setSize(0.01F, 0.01F);
+        this.lastTickedGameTime = world.getGameTime();
+    }
+
+    /**
+     * Puts a recycled leaf back into the state a newly constructed one would have.
+     */
+    private void reset(double x, double y, double z, double xSpeed, double ySpeed, double zSpeed) {
+        this.removed = false;
+        this.age = 0;
+        this.onGround = false;
+        this.simplified = false;
+        ((ParticleAccess) this).byg_setStoppedByCollision(false);
+        this.setPos(x, y, z);
+        this.xo = x;
+        this.yo = y;
+        this.zo = z;
+
+        // Same motion jitter as the Particle constructor.
+        this.xd = xSpeed + (Math.random() * 2.0D - 1.0D) * 0.4F;
+        this.yd = ySpeed + (Math.random() * 2.0D - 1.0D) * 0.4F;
+        this.zd = zSpeed + (Math.random() * 2.0D - 1.0D) * 0.4F;
+        double speed = (Math.random() + Math.random() + 1.0D) * 0.15F;
+        double length = Math.sqrt(this.xd * this.xd + this.yd * this.yd + this.zd * this.zd);
+        this.xd = this.xd / length * speed * 0.4F;
+        this.yd = -Math.abs(this.yd / length * speed * 0.4F + 0.1F);
+        this.zd = this.zd / length * speed * 0.4F;
+
+        this.quadSize = 0.1F * (this.random.nextFloat() * 0.5F + 0.5F) * 2.0F * (this.random.nextFloat() * 0.6F + 0.6F);
+        this.lastTickedGameTime = this.level.getGameTime();
     }
 
     @Override
@@ -28,8 +68,19 @@ public class FallingLeafParticle extends TextureSheetParticle {
         this.xo = this.x;
         this.yo = this.y;
         this.zo = this.z;
+        this.lastTickedGameTime = this.level.getGameTime();
+        if (this.age++ % DISTANCE_CHECK_INTERVAL == 0) {
+            int simplifiedDistance = LeafParticlesConfig.getConfig().simplifiedDistance();
+            this.simplified = Minecraft.getInstance().gameRenderer.getMainCamera().getPosition().distanceToSqr(this.x, this.y, this.z) > simplifiedDistance * simplifiedDistance;
+        }
+        if (this.simplified && this.onGround) {
+            // Far away leaves don't lie around on the ground for their full lifetime.
+            this.lifetime = Math.min(this.lifetime, SIMPLIFIED_GROUND_LIFETIME);
+        }
+
         if (this.lifetime-- <= 0) {
             this.remove();
+            FallingLeafParticlePool.release(this);
         } else {
             this.move(this.xd, this.yd, this.zd);
             this.xd *= 0.99D;
@@ -37,6 +88,10 @@ public class FallingLeafParticle extends TextureSheetParticle {
         }
     }
 
+    long lastTickedGameTime() {
+        return this.lastTickedGameTime;
+    }
+
     public static class Provider implements ParticleProvider<SimpleParticleType> {
 
         private final SpriteSet sprite;
@@ -48,10 +103,22 @@ public class FallingLeafParticle extends TextureSheetParticle {
         @Nullable
         @Override
         public Particle createParticle(SimpleParticleType var1, ClientLevel world, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed) {
-            FallingLeafParticle leaf = new FallingLeafParticle(world, x, y, z, xSpeed, ySpeed, zSpeed);
+            LeafParticlesConfig config = LeafParticlesConfig.getConfig();
+            Vec3 camera = Minecraft.getInstance().gameRenderer.getMainCamera().getPosition();
+            if (camera.distanceToSqr(x, y, z) > config.cullDistance() * config.cullDistance() || !FallingLeafParticlePool.hasCapacity(world, config.maxParticles())) {
+                return null;
+            }
+
+            FallingLeafParticle leaf = FallingLeafParticlePool.acquire();
+            if (leaf != null) {
+                leaf.reset(x, y, z, xSpeed, ySpeed, zSpeed);
+            } else {
+                leaf = new FallingLeafParticle(world, x, y, z, xSpeed, ySpeed, zSpeed);
+            }
             leaf.lifetime = Mth.randomBetweenInclusive(world.random, 500, 1000);
             leaf.setColor(1.0f, 1.0f, 1.0f);
             leaf.setSprite(this.sprite.get(world.random.nextInt(16), 16));
+            FallingLeafParticlePool.track(leaf);
             return leaf;
         }
 
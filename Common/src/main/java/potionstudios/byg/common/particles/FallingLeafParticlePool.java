@@ -0,0 +1,64 @@
+package potionstudios.byg.common.particles;
+
+import net.minecraft.client.multiplayer.ClientLevel;
+
+import javax.annotation.Nullable;
+
+/**
+ * Keeps track of the falling leaf particles alive in the client level, capping how many may exist at once and recycling the instances of expired leaves.
+ * <p>
+ * Only ever accessed from the client thread.
+ */
+public final class FallingLeafParticlePool {
+
+    private static final int MAX_POOLED = 256;
+    // Leaves not ticked for this long were dropped by the particle engine without expiring, e.g. when its queue overflowed.
+    private static final int STALE_TICKS = 20;
+
+    private static final ParticlePool<FallingLeafParticle> LEAVES = new ParticlePool<>(MAX_POOLED, STALE_TICKS, FallingLeafParticle::lastTickedGameTime);
+    @Nullable
+    private static ClientLevel level;
+
+    private FallingLeafParticlePool() {
+    }
+
+    /**
+     * @return Whether another leaf may be spawned in the given level without exceeding {@code maxParticles}.
+     */
+    static boolean hasCapacity(ClientLevel level, int maxParticles) {
+        if (FallingLeafParticlePool.level != level) {
+            clear();
+            FallingLeafParticlePool.level = level;
+        }
+        return LEAVES.hasCapacity(level.getGameTime(), maxParticles);
+    }
+
+    @Nullable
+    static FallingLeafParticle acquire() {
+        return LEAVES.acquire();
+    }
+
+    static void track(FallingLeafParticle leaf) {
+        LEAVES.track(leaf);
+    }
+
+    /**
+     * Called by leaves that expired during their own tick, the particle engine drops them right after so they are free to be reused.
+     */
+    static void release(FallingLeafParticle leaf) {
+        LEAVES.release(leaf);
+    }
+
+    /**
+     * Drops every live and pooled leaf, called whenever the client level changes or is unloaded.
+     * Particles keep the level they were created in, so neither can carry over, and holding on to them would keep the old level alive.
+     */
+    public static void clear() {
+        LEAVES.clear();
+        level = null;
+    }
+
+    public static int liveCount() {
+        return LEAVES.liveCount();
+    }
+}
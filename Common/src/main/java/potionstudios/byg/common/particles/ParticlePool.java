@@ -0,0 +1,71 @@
+package potionstudios.byg.common.particles;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Live and recycled instances of a particle type, see {@link FallingLeafParticlePool}.
+ * <p>
+ * Particles are tracked by identity. A particle that hasn't been ticked for more than {@code staleTicks} is assumed to have been dropped without expiring,
+ * and stops counting against the cap the next time the cap is reached.
+ */
+final class ParticlePool<T> {
+
+    private final int maxPooled;
+    private final int staleTicks;
+    private final ToLongFunction<T> lastTickedGameTime;
+    private final ArrayDeque<T> pool = new ArrayDeque<>();
+    private final Set<T> live = new ReferenceOpenHashSet<>();
+
+    ParticlePool(int maxPooled, int staleTicks, ToLongFunction<T> lastTickedGameTime) {
+        this.maxPooled = maxPooled;
+        this.staleTicks = staleTicks;
+        this.lastTickedGameTime = lastTickedGameTime;
+    }
+
+    /**
+     * @return Whether another particle may be spawned without exceeding {@code maxParticles}, pruning stale particles first if the cap is reached.
+     */
+    boolean hasCapacity(long gameTime, int maxParticles) {
+        if (this.live.size() < maxParticles) {
+            return true;
+        }
+        this.live.removeIf(particle -> gameTime - this.lastTickedGameTime.applyAsLong(particle) > this.staleTicks);
+        return this.live.size() < maxParticles;
+    }
+
+    @Nullable
+    T acquire() {
+        return this.pool.pollFirst();
+    }
+
+    void track(T particle) {
+        this.live.add(particle);
+    }
+
+    /**
+     * Recycles a live particle, unless the pool is already full. Particles that aren't live, e.g. already pruned as stale, are never recycled.
+     */
+    void release(T particle) {
+        if (this.live.remove(particle) && this.pool.size() < this.maxPooled) {
+            this.pool.addLast(particle);
+        }
+    }
+
+    void clear() {
+        this.pool.clear();
+        this.live.clear();
+    }
+
+    int liveCount() {
+        return this.live.size();
+    }
+
+    int pooledCount() {
+        return this.pool.size();
+    }
+}
@@ -5,7 +5,10 @@ import com.mojang.serialization.codecs.RecordCodecBuilder;
 import corgitaco.corgilib.serialization.codec.CollectionCodec;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
@@ -17,9 +20,14 @@ import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.biome.MobSpawnSettings;
 import potionstudios.byg.BYG;
 import potionstudios.byg.mixin.access.WeightedListAccess;
+import potionstudios.byg.network.packet.LevelBiomeTrackerPacket;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 public final class LevelBiomeTracker {
 
@@ -68,6 +76,58 @@ public final class LevelBiomeTracker {
         return new LevelBiomeTracker(map, entitySpawns);
     }
 
+    /**
+     * Writes this tracker with biomes and entity types as registry ids, dimensions are written by name as they have no synced registry.
+     * Biomes and entity types missing from the registries are skipped.
+     */
+    public void write(FriendlyByteBuf buf, RegistryAccess registryAccess) {
+        Registry<Biome> biomeRegistry = registryAccess.registryOrThrow(Registry.BIOME_REGISTRY);
+        buf.writeVarInt(this.biomesForLevel.size());
+        this.biomesForLevel.forEach((level, biomes) -> {
+            buf.writeResourceLocation(level.location());
+            writeIds(buf, biomes.stream().map(biomeRegistry::get).filter(Objects::nonNull).mapToInt(biomeRegistry::getId).toArray());
+        });
+
+        List<Map.Entry<ResourceKey<Biome>, ObjectOpenHashSet<ResourceKey<EntityType<?>>>>> biomeMobs = this.biomeMobs.entrySet().stream().filter(entry -> biomeRegistry.containsKey(entry.getKey())).toList();
+        buf.writeVarInt(biomeMobs.size());
+        for (Map.Entry<ResourceKey<Biome>, ObjectOpenHashSet<ResourceKey<EntityType<?>>>> entry : biomeMobs) {
+            buf.writeVarInt(biomeRegistry.getId(biomeRegistry.get(entry.getKey())));
+            writeIds(buf, entry.getValue().stream().map(Registry.ENTITY_TYPE::get).mapToInt(Registry.ENTITY_TYPE::getId).toArray());
+        }
+    }
+
+    public static LevelBiomeTracker read(FriendlyByteBuf buf, RegistryAccess registryAccess) {
+        Registry<Biome> biomeRegistry = registryAccess.registryOrThrow(Registry.BIOME_REGISTRY);
+        Object2ObjectOpenHashMap<ResourceKey<Level>, ObjectOpenHashSet<ResourceKey<Biome>>> biomesForLevel = new Object2ObjectOpenHashMap<>();
+        int levels = buf.readVarInt();
+        for (int i = 0; i < levels; i++) {
+            ResourceKey<Level> level = ResourceKey.create(Registry.DIMENSION_REGISTRY, buf.readResourceLocation());
+            ObjectOpenHashSet<ResourceKey<Biome>> biomes = new ObjectOpenHashSet<>();
+            for (int biomeId : buf.readVarIntArray()) {
+                biomeRegistry.getHolder(biomeId).flatMap(Holder::unwrapKey).ifPresent(biomes::add);
+            }
+            biomesForLevel.put(level, biomes);
+        }
+
+        Object2ObjectOpenHashMap<ResourceKey<Biome>, ObjectOpenHashSet<ResourceKey<EntityType<?>>>> biomeMobs = new Object2ObjectOpenHashMap<>();
+        int biomes = buf.readVarInt();
+        for (int i = 0; i < biomes; i++) {
+            Optional<ResourceKey<Biome>> biome = biomeRegistry.getHolder(buf.readVarInt()).flatMap(Holder::unwrapKey);
+            ObjectOpenHashSet<ResourceKey<EntityType<?>>> mobs = new ObjectOpenHashSet<>();
+            for (int entityTypeId : buf.readVarIntArray()) {
+                Registry.ENTITY_TYPE.getHolder(entityTypeId).flatMap(Holder::unwrapKey).ifPresent(mobs::add);
+            }
+            biome.ifPresent(key -> biomeMobs.put(key, mobs));
+        }
+        return new LevelBiomeTracker(biomesForLevel, biomeMobs);
+    }
+
+    private static void writeIds(FriendlyByteBuf buf, int[] ids) {
+        // Sorted ids keep the payload identical between runs with the same registries.
+        Arrays.sort(ids);
+        buf.writeVarIntArray(ids);
+    }
+
     public Map<ResourceKey<Level>, ObjectOpenHashSet<ResourceKey<Biome>>> biomesForLevel() {
         return biomesForLevel;
     }
@@ -80,7 +140,15 @@ public final class LevelBiomeTracker {
         return biomeMobs;
     }
 
+    /**
+     * Implemented by the server, which computes its tracker once after creating its levels.
+     */
     public interface Access {
         LevelBiomeTracker levelBiomeTracker();
+
+        /**
+         * @return The tracker packet, encoded once and sent as is to every joining player.
+         */
+        LevelBiomeTrackerPacket levelBiomeTrackerPacket();
     }
 }
\ No newline at end of file
@@ -1,24 +1,43 @@
 package potionstudios.byg.common.world.biome;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.util.random.SimpleWeightedRandomList;
 import net.minecraft.util.random.WeightedEntry;
 import net.minecraft.util.random.WeightedRandom;
 import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeResolver;
 import net.minecraft.world.level.biome.Biomes;
 import potionstudios.byg.mixin.access.WeightedListAccess;
 import terrablender.worldgen.noise.*;
 
 import java.nio.file.Path;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.LongFunction;
 
 import static terrablender.worldgen.noise.LayeredNoiseUtil.zoom;
 
 public class LayerUtil {
 
+    /**
+     * Resolves every biome id a layer can produce to its holder up front, so sampling a layer is a single array read instead of a registry lookup.
+     */
+    @SuppressWarnings("unchecked")
+    public static Holder<Biome>[] createBiomeHolderLookup(Registry<Biome> biomeRegistry) {
+        Holder<Biome>[] holders = new Holder[biomeRegistry.size()];
+        for (int id = 0; id < holders.length; id++) {
+            int biomeId = id;
+            holders[id] = biomeRegistry.getHolder(id).orElseThrow(() -> new IllegalStateException("Biome registry has no biome for id: " + biomeId));
+        }
+        return holders;
+    }
+
+    public static BiomeResolver createBiomeResolver(Holder<Biome>[] biomeHolders, Area layers) {
+        return (x, y, z, sampler) -> biomeHolders[layers.get(x, z)];
+    }
+
     public static Area createLayers(Registry<Biome> biomeRegistry, long worldSeed, SimpleWeightedRandomList<ResourceKey<Biome>> biomes, int regionSize, Path configPath) {
         LongFunction<AreaContext> contextFactory = (seedModifier) -> new AreaContext(25, worldSeed, seedModifier);
         AreaFactory factory = new InitLayer(biomes, biomeRegistry, configPath).run(contextFactory.apply(1L));
@@ -28,36 +47,51 @@ public class LayerUtil {
         return factory.make();
     }
 
+    /**
+     * Picks the biome of every base layer cell from the weighted biome list.
+     * <p>
+     * The list is compiled up front into {@link WeightedBiomeIds}, so a cell costs one random draw and usually one array read.
+     * The draw and the weight order are the same as {@link WeightedRandom#getWeightedItem}, so layers match those generated by walking the list.
+     */
     @SuppressWarnings("unchecked")
-    private static class InitLayer implements AreaTransformer0 {
+    static class InitLayer implements AreaTransformer0 {
 
-        private final SimpleWeightedRandomList<ResourceKey<Biome>> biomes;
-        private final Registry<Biome> biomeRegistry;
-        private final Path path;
-        private final int totalWeight;
-        private final List<WeightedEntry> entries;
+        private final WeightedBiomeIds weightedIds;
+        private final int fallbackId;
 
         public InitLayer(SimpleWeightedRandomList<ResourceKey<Biome>> biomes, Registry<Biome> biomeRegistry, Path path) {
-            this.biomes = biomes;
-            this.biomeRegistry = biomeRegistry;
-            this.path = path;
-            this.totalWeight = ((WeightedListAccess<ResourceKey<Biome>>) this.biomes).byg_getTotalWeight();
-            this.entries = ((WeightedListAccess<WeightedEntry>) this.biomes).byg_getItems();
+            this.fallbackId = biomeRegistry.getId(biomeRegistry.get(Biomes.OCEAN));
+
+            List<WeightedEntry.Wrapper<ResourceKey<Biome>>> entries = ((WeightedListAccess<WeightedEntry.Wrapper<ResourceKey<Biome>>>) biomes).byg_getItems();
+            IntArrayList weights = new IntArrayList(entries.size());
+            IntArrayList ids = new IntArrayList(entries.size());
+            for (WeightedEntry.Wrapper<ResourceKey<Biome>> entry : entries) {
+                int weight = entry.getWeight().asInt();
+                if (weight <= 0) {
+                    continue;
+                }
+                ResourceKey<Biome> key = entry.getData();
+                if (!biomeRegistry.containsKey(key)) {
+                    throw new IllegalArgumentException(String.format("\"%s\" is not a valid biome in the registry, fix the ID or remove the json entry from the config: \"%s\" and relaunch Minecraft...", key, path));
+                }
+                weights.add(weight);
+                ids.add(biomeRegistry.getId(biomeRegistry.get(key)));
+            }
+            this.weightedIds = new WeightedBiomeIds(weights.toIntArray(), ids.toIntArray());
+        }
+
+        InitLayer(WeightedBiomeIds weightedIds, int fallbackId) {
+            this.weightedIds = weightedIds;
+            this.fallbackId = fallbackId;
         }
 
         @Override
         public int apply(AreaContext areaContext, int x, int z) {
+            int totalWeight = this.weightedIds.totalWeight();
             if (totalWeight == 0) {
-                return biomeRegistry.getId(biomeRegistry.get(Biomes.OCEAN));
-            }
-            Optional<WeightedEntry> weightedItem = WeightedRandom.getWeightedItem(this.entries, areaContext.nextRandom(this.totalWeight));
-            WeightedEntry.Wrapper<ResourceKey<Biome>> resourceKeyWrapper = (WeightedEntry.Wrapper<ResourceKey<Biome>>) weightedItem.get();
-            ResourceKey<Biome> key = resourceKeyWrapper.getData();
-            if (!this.biomeRegistry.containsKey(key)) {
-                throw new IllegalArgumentException(String.format("\"%s\" is not a valid biome in the registry, fix the ID or remove the json entry from the config: \"%s\" and relaunch Minecraft...", key, this.path));
+                return this.fallbackId;
             }
-
-            return biomeRegistry.getId(biomeRegistry.get(key));
+            return this.weightedIds.get(areaContext.nextRandom(totalWeight));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package potionstudios.byg.common.world.biome;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import net.minecraft.core.BlockPos;
+
+/**
+ * Small direct mapped cache of values sampled at quart positions, meant to be held per thread so biome lookups can reuse noise samples without allocating.
+ * Callers look up the slot for a key, check {@link #contains(int, long)} and either read the cached value or compute and {@link #put(int, long, double)} it.
+ */
+public final class QuartValueCache {
+    private static final int SIZE = 256;
+
+    private final long[] keys = new long[SIZE];
+    private final double[] values = new double[SIZE];
+    private final boolean[] present = new boolean[SIZE];
+
+    public static long key(int quartX, int quartY, int quartZ) {
+        return BlockPos.asLong(quartX, quartY, quartZ);
+    }
+
+    public static int slot(long key) {
+        return (int) HashCommon.mix(key) & (SIZE - 1);
+    }
+
+    public boolean contains(int slot, long key) {
+        return this.present[slot] && this.keys[slot] == key;
+    }
+
+    public double get(int slot) {
+        return this.values[slot];
+    }
+
+    public void put(int slot, long key, double value) {
+        this.keys[slot] = key;
+        this.values[slot] = value;
+        this.present[slot] = true;
+    }
+}
@@ -0,0 +1,78 @@
+package potionstudios.byg.common.world.biome;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * Biome ids of a weighted biome list, looked up by a weight drawn in {@code [0, totalWeight)}.
+ * <p>
+ * Entries keep the list order, so a weight picks the same biome as walking the list with {@code WeightedRandom#getWeightedItem}.
+ * Lists up to {@link #MAX_FLATTENED_WEIGHT} are flattened to one id per unit of weight, larger ones are searched by cumulative weight.
+ */
+final class WeightedBiomeIds {
+
+    static final int MAX_FLATTENED_WEIGHT = 1 << 16;
+
+    private final int totalWeight;
+    // Biome id for every unit of weight, or null if the total weight is too large to flatten.
+    @Nullable
+    private final int[] idsByWeight;
+    private final int[] cumulativeWeights;
+    private final int[] ids;
+
+    /**
+     * @param weights The weight of every entry in list order, entries without weight are ignored.
+     * @param ids     The biome id of every entry, matching {@code weights}.
+     */
+    WeightedBiomeIds(int[] weights, int[] ids) {
+        int[] cumulativeWeights = new int[weights.length];
+        int[] entryIds = new int[weights.length];
+        int entries = 0;
+        int cumulativeWeight = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] <= 0) {
+                continue;
+            }
+            cumulativeWeight += weights[i];
+            cumulativeWeights[entries] = cumulativeWeight;
+            entryIds[entries++] = ids[i];
+        }
+        this.totalWeight = cumulativeWeight;
+        this.cumulativeWeights = Arrays.copyOf(cumulativeWeights, entries);
+        this.ids = Arrays.copyOf(entryIds, entries);
+
+        if (this.totalWeight > 0 && this.totalWeight <= MAX_FLATTENED_WEIGHT) {
+            this.idsByWeight = new int[this.totalWeight];
+            int weight = 0;
+            for (int i = 0; i < this.ids.length; i++) {
+                Arrays.fill(this.idsByWeight, weight, this.cumulativeWeights[i], this.ids[i]);
+                weight = this.cumulativeWeights[i];
+            }
+        } else {
+            this.idsByWeight = null;
+        }
+    }
+
+    int totalWeight() {
+        return this.totalWeight;
+    }
+
+    int get(int weight) {
+        if (this.idsByWeight != null) {
+            return this.idsByWeight[weight];
+        }
+
+        // First entry whose cumulative weight exceeds the drawn weight.
+        int low = 0;
+        int high = this.cumulativeWeights.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.cumulativeWeights[mid] > weight) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return this.ids[low];
+    }
+}
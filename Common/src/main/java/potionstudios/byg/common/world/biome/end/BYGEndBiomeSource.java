@@ -15,6 +15,7 @@ import potionstudios.byg.BYG;
 import potionstudios.byg.common.world.biome.LayerUtil;
 import potionstudios.byg.common.world.biome.LayersBiomeData;
 import potionstudios.byg.common.world.biome.LazyLoadSeed;
+import potionstudios.byg.common.world.biome.QuartValueCache;
 import potionstudios.byg.util.BYGUtil;
 import terrablender.worldgen.noise.Area;
 
@@ -38,6 +39,8 @@ public class BYGEndBiomeSource extends BiomeSource implements LazyLoadSeed {
     private BiomeResolver islandBiomeResolver;
     private BiomeResolver voidBiomeResolver;
     private BiomeResolver skyBiomeResolver;
+    private Holder<Biome> theEnd;
+    private ThreadLocal<ErosionCache> erosionCache;
     private final int skyLayersStartY;
 
     public BYGEndBiomeSource(Registry<Biome> biomeRegistry) {
@@ -52,20 +55,16 @@ public class BYGEndBiomeSource extends BiomeSource implements LazyLoadSeed {
 
     @Override
     public Holder<Biome> getNoiseBiome(int x, int y, int z, Climate.Sampler sampler) {
-        int quartX = QuartPos.toBlock(x);
-        int quartY = QuartPos.toBlock(y);
-        int quartZ = QuartPos.toBlock(z);
-
         int chunkX = x >> 2;
         int chunkZ = z >> 2;
         if ((long) chunkX * (long) chunkX + (long) chunkZ * (long) chunkZ <= 4096L) {
-            return this.biomeRegistry.getHolderOrThrow(Biomes.THE_END);
+            return this.theEnd;
         } else {
             if (y > this.skyLayersStartY) {
                 return this.skyBiomeResolver.getNoiseBiome(x, y, z, sampler);
             } else {
 
-                double heightValue = sampler.erosion().compute(new DensityFunction.SinglePointContext(quartX, quartY, quartZ));
+                double heightValue = this.erosionCache.get().getErosion(sampler, x, y, z);
                 if (heightValue > 40.0) {
                     return this.islandBiomeResolver.getNoiseBiome(x, y, z, sampler);
                 } else if (heightValue >= 0.0) {
@@ -90,6 +89,47 @@ public class BYGEndBiomeSource extends BiomeSource implements LazyLoadSeed {
         this.islandBiomeResolver = getIslandBiomeResolver(biomeRegistry, seed, config.islandLayers().filter(filter));
         this.voidBiomeResolver = getVoidBiomeResolver(biomeRegistry, seed, config.voidLayers().filter(filter));
         this.skyBiomeResolver = getSkyBiomeResolver(biomeRegistry, seed, config.skyLayers().filter(filter));
+        this.theEnd = this.biomeRegistry.getHolderOrThrow(Biomes.THE_END);
+        this.erosionCache = ThreadLocal.withInitial(ErosionCache::new);
+    }
+
+    /**
+     * Per thread erosion cache, doubling as the density function context so sampling erosion doesn't allocate a new context per lookup.
+     */
+    private static final class ErosionCache implements DensityFunction.FunctionContext {
+        private final QuartValueCache cache = new QuartValueCache();
+        private int blockX;
+        private int blockY;
+        private int blockZ;
+
+        private double getErosion(Climate.Sampler sampler, int quartX, int quartY, int quartZ) {
+            long key = QuartValueCache.key(quartX, quartY, quartZ);
+            int slot = QuartValueCache.slot(key);
+            if (this.cache.contains(slot, key)) {
+                return this.cache.get(slot);
+            }
+            this.blockX = QuartPos.toBlock(quartX);
+            this.blockY = QuartPos.toBlock(quartY);
+            this.blockZ = QuartPos.toBlock(quartZ);
+            double erosion = sampler.erosion().compute(this);
+            this.cache.put(slot, key, erosion);
+            return erosion;
+        }
+
+        @Override
+        public int blockX() {
+            return this.blockX;
+        }
+
+        @Override
+        public int blockY() {
+            return this.blockY;
+        }
+
+        @Override
+        public int blockZ() {
+            return this.blockZ;
+        }
     }
 
     protected Registry<Biome> getBiomeRegistry() {
@@ -128,16 +168,16 @@ public class BYGEndBiomeSource extends BiomeSource implements LazyLoadSeed {
 
     public static BiomeResolver getIslandBiomeResolver(Registry<Biome> biomeRegistry, long seed, LayersBiomeData islandLayersBiomeData) {
         Area layers = LayerUtil.createLayers(biomeRegistry, seed, islandLayersBiomeData.biomeWeights(), islandLayersBiomeData.biomeSize(), EndBiomesConfig.CONFIG_PATH.get());
-        return (x, y, z, sampler) -> biomeRegistry.getHolder(layers.get(x, z)).orElseThrow();
+        return LayerUtil.createBiomeResolver(LayerUtil.createBiomeHolderLookup(biomeRegistry), layers);
     }
 
     public static BiomeResolver getVoidBiomeResolver(Registry<Biome> biomeRegistry, long seed, LayersBiomeData voidLayersBiomeData) {
         Area layers = LayerUtil.createLayers(biomeRegistry, seed, voidLayersBiomeData.biomeWeights(), voidLayersBiomeData.biomeSize(), EndBiomesConfig.CONFIG_PATH.get());
-        return (x, y, z, sampler) -> biomeRegistry.getHolder(layers.get(x, z)).orElseThrow();
+        return LayerUtil.createBiomeResolver(LayerUtil.createBiomeHolderLookup(biomeRegistry), layers);
     }
 
     public static BiomeResolver getSkyBiomeResolver(Registry<Biome> biomeRegistry, long seed, LayersBiomeData skyLayersBiomeData) {
         Area layers = LayerUtil.createLayers(biomeRegistry, seed, skyLayersBiomeData.biomeWeights(), skyLayersBiomeData.biomeSize(), EndBiomesConfig.CONFIG_PATH.get());
-        return (x, y, z, sampler) -> biomeRegistry.getHolder(layers.get(x, z)).orElseThrow();
+        return LayerUtil.createBiomeResolver(LayerUtil.createBiomeHolderLookup(biomeRegistry), layers);
     }
 }
\ No newline at end of file
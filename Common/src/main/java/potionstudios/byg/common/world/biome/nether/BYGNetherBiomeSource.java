@@ -17,6 +17,7 @@ import potionstudios.byg.BYG;
 import potionstudios.byg.common.world.biome.LayerUtil;
 import potionstudios.byg.common.world.biome.LayersBiomeData;
 import potionstudios.byg.common.world.biome.LazyLoadSeed;
+import potionstudios.byg.common.world.biome.QuartValueCache;
 import potionstudios.byg.common.world.math.noise.fastnoise.lite.FastNoiseLite;
 import potionstudios.byg.util.BYGUtil;
 import terrablender.worldgen.noise.Area;
@@ -38,6 +39,8 @@ public class BYGNetherBiomeSource extends BiomeSource implements LazyLoadSeed {
 
     private FastNoiseLite lowerLayerRoughnessNoise;
     private FastNoiseLite upperLayerRoughnessNoise;
+    private ThreadLocal<QuartValueCache> lowerLayerRoughnessCache;
+    private ThreadLocal<QuartValueCache> upperLayerRoughnessCache;
     private final Registry<Biome> biomeRegistry;
     private BiomeResolver upperBiomeResolver;
     private BiomeResolver middleBiomeResolver;
@@ -56,15 +59,29 @@ public class BYGNetherBiomeSource extends BiomeSource implements LazyLoadSeed {
 
     @Override
     public Holder<Biome> getNoiseBiome(int x, int y, int z, Climate.Sampler sampler) {
-        if (y < bottomTopY + this.lowerLayerRoughnessNoise.GetNoise(x, z) * 5) {
+        if (y < bottomTopY + getRoughness(this.lowerLayerRoughnessCache.get(), this.lowerLayerRoughnessNoise, x, z) * 5) {
             return this.bottomResolver.getNoiseBiome(x, y, z, sampler);
-        } else if (y > bottomTopY + bottomTopY + this.upperLayerRoughnessNoise.GetNoise(x, z) * 5) {
+        } else if (y > bottomTopY + bottomTopY + getRoughness(this.upperLayerRoughnessCache.get(), this.upperLayerRoughnessNoise, x, z) * 5) {
             return this.upperBiomeResolver.getNoiseBiome(x, y, z, sampler);
         } else {
             return this.middleBiomeResolver.getNoiseBiome(x, y, z, sampler);
         }
     }
 
+    /**
+     * Roughness only depends on the column, so it's sampled once per quart column rather than for every quart y.
+     */
+    private static float getRoughness(QuartValueCache cache, FastNoiseLite noise, int x, int z) {
+        long key = QuartValueCache.key(x, 0, z);
+        int slot = QuartValueCache.slot(key);
+        if (cache.contains(slot, key)) {
+            return (float) cache.get(slot);
+        }
+        float roughness = noise.GetNoise(x, z);
+        cache.put(slot, key, roughness);
+        return roughness;
+    }
+
     @Override
     protected Codec<? extends BiomeSource> codec() {
         return CODEC;
@@ -84,6 +101,9 @@ public class BYGNetherBiomeSource extends BiomeSource implements LazyLoadSeed {
         this.upperLayerRoughnessNoise.SetNoiseType(FastNoiseLite.NoiseType.OpenSimplex2);
         this.upperLayerRoughnessNoise.SetFrequency(0.005F);
 
+        this.lowerLayerRoughnessCache = ThreadLocal.withInitial(QuartValueCache::new);
+        this.upperLayerRoughnessCache = ThreadLocal.withInitial(QuartValueCache::new);
+
         this.upperBiomeResolver = getUpperBiomeResolver(biomeRegistry, seed, config.upperLayer().filter(filter));
         this.middleBiomeResolver = getMiddleBiomeResolver(biomeRegistry, seed, config.middleLayer().filter(filter));
         this.bottomResolver = getLowerBiomeResolver(biomeRegistry, seed, config.bottomLayer().filter(filter));
@@ -121,16 +141,16 @@ public class BYGNetherBiomeSource extends BiomeSource implements LazyLoadSeed {
 
     public static BiomeResolver getUpperBiomeResolver(Registry<Biome> biomeRegistry, long seed, LayersBiomeData upperLayerBiomeData) {
         Area layers = LayerUtil.createLayers(biomeRegistry, seed, upperLayerBiomeData.biomeWeights(), upperLayerBiomeData.biomeSize(), NetherBiomesConfig.CONFIG_PATH.get());
-        return (x, y, z, sampler) -> biomeRegistry.getHolder(layers.get(x, z)).orElseThrow();
+        return LayerUtil.createBiomeResolver(LayerUtil.createBiomeHolderLookup(biomeRegistry), layers);
     }
 
     public static BiomeResolver getMiddleBiomeResolver(Registry<Biome> biomeRegistry, long seed, LayersBiomeData middleLayerBiomeData) {
         Area layers = LayerUtil.createLayers(biomeRegistry, seed, middleLayerBiomeData.biomeWeights(), middleLayerBiomeData.biomeSize(), NetherBiomesConfig.CONFIG_PATH.get());
-        return (x, y, z, sampler) -> biomeRegistry.getHolder(layers.get(x, z)).orElseThrow();
+        return LayerUtil.createBiomeResolver(LayerUtil.createBiomeHolderLookup(biomeRegistry), layers);
     }
 
     public static BiomeResolver getLowerBiomeResolver(Registry<Biome> biomeRegistry, long seed, LayersBiomeData lowerLayerBiomeData) {
         Area layers = LayerUtil.createLayers(biomeRegistry, seed, lowerLayerBiomeData.biomeWeights(), lowerLayerBiomeData.biomeSize(), NetherBiomesConfig.CONFIG_PATH.get());
-        return (x, y, z, sampler) -> biomeRegistry.getHolder(layers.get(x, z)).orElseThrow();
+        return LayerUtil.createBiomeResolver(LayerUtil.createBiomeHolderLookup(biomeRegistry), layers);
     }
 }
\ No newline at end of file
@@ -13,10 +13,10 @@ import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.placement.PlacedFeature;
 import potionstudios.byg.common.world.feature.config.NoisySphereConfig;
 import potionstudios.byg.common.world.math.noise.fastnoise.FastNoise;
+import potionstudios.byg.common.world.math.noise.fastnoise.FastNoiseSamplers;
 
 public class Boulder extends Feature<NoisySphereConfig> {
-    protected static FastNoise fastNoise;
-    protected long seed;
+    private static final FastNoiseSamplers.Settings NOISE_SETTINGS = FastNoiseSamplers.Settings.of(FastNoise.NoiseType.Simplex);
 
     public Boulder(Codec<NoisySphereConfig> configCodec) {
         super(configCodec);
@@ -63,8 +63,6 @@ public class Boulder extends Feature<NoisySphereConfig> {
 
 
     public boolean place(Application application, long seed, RandomSource random, BlockPos origin, NoisySphereConfig config) {
-        setSeed(seed);
-
         BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos().set(origin);
         BlockPos.MutableBlockPos mutable2 = new BlockPos.MutableBlockPos().set(mutable);
         int stackHeight = config.stackHeight().sample(random);
@@ -72,7 +70,7 @@ public class Boulder extends Feature<NoisySphereConfig> {
         int xRadius = radiusSettings.xRadius().sample(random) / 2;
         int yRadius = radiusSettings.yRadius().sample(random) / 2;
         int zRadius = radiusSettings.zRadius().sample(random) / 2;
-        fastNoise.SetFrequency(config.noiseFrequency());
+        FastNoise fastNoise = FastNoiseSamplers.get(seed, NOISE_SETTINGS.withFrequency(config.noiseFrequency()));
 
         double xRadiusSquared = xRadius * xRadius;
         double yRadiusSquared = yRadius * yRadius;
@@ -105,14 +103,6 @@ public class Boulder extends Feature<NoisySphereConfig> {
     }
 
 
-    public void setSeed(long seed) {
-        if (this.seed != seed || fastNoise == null) {
-            fastNoise = new FastNoise((int) seed);
-            fastNoise.SetNoiseType(FastNoise.NoiseType.Simplex);
-            this.seed = seed;
-        }
-    }
-
     public interface Application {
         void apply(BlockPos pos, BlockState state);
 
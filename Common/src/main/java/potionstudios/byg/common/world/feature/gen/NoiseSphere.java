@@ -13,10 +13,10 @@ import net.minecraft.world.level.levelgen.placement.PlacedFeature;
 import potionstudios.byg.common.world.feature.config.NoisySphereConfig;
 import potionstudios.byg.common.world.feature.config.RadiusMatcher;
 import potionstudios.byg.common.world.math.noise.fastnoise.FastNoise;
+import potionstudios.byg.common.world.math.noise.fastnoise.FastNoiseSamplers;
 
 public class NoiseSphere extends Feature<NoisySphereConfig> {
-    protected static FastNoise fastNoise;
-    protected long seed;
+    private static final FastNoiseSamplers.Settings NOISE_SETTINGS = FastNoiseSamplers.Settings.of(FastNoise.NoiseType.Cellular);
 
     public NoiseSphere(Codec<NoisySphereConfig> configCodec) {
         super(configCodec);
@@ -29,7 +29,7 @@ public class NoiseSphere extends Feature<NoisySphereConfig> {
     }
 
     public boolean place(WorldGenLevel world, ChunkGenerator chunkGenerator, RandomSource random, BlockPos position, NoisySphereConfig config) {
-        setSeed(world.getSeed(), config.noiseFrequency());
+        FastNoise fastNoise = FastNoiseSamplers.get(world.getSeed(), NOISE_SETTINGS.withFrequency(config.noiseFrequency()));
 
         boolean use2D = random.nextDouble() < config.noise2DChance();
         RadiusMatcher radiusMatcher = config.radiusMatcher();
@@ -100,14 +100,4 @@ public class NoiseSphere extends Feature<NoisySphereConfig> {
 
         return true;
     }
-
-
-    public void setSeed(long seed, float noiseFreq) {
-        if (this.seed != seed || fastNoise == null) {
-            fastNoise = new FastNoise((int) seed);
-            fastNoise.SetNoiseType(FastNoise.NoiseType.Cellular);
-            this.seed = seed;
-        }
-        fastNoise.SetFrequency(noiseFreq);
-    }
 }
\ No newline at end of file
@@ -15,10 +15,10 @@ import net.minecraft.world.level.levelgen.placement.PlacedFeature;
 import potionstudios.byg.common.world.feature.config.NoisySphereConfig;
 import potionstudios.byg.common.world.feature.config.RadiusMatcher;
 import potionstudios.byg.common.world.math.noise.fastnoise.FastNoise;
+import potionstudios.byg.common.world.math.noise.fastnoise.FastNoiseSamplers;
 
 public class Spike extends Feature<NoisySphereConfig> {
-    protected static FastNoise fastNoise;
-    protected long seed;
+    private static final FastNoiseSamplers.Settings NOISE_SETTINGS = FastNoiseSamplers.Settings.of(FastNoise.NoiseType.Cellular);
 
     public Spike(Codec<NoisySphereConfig> configCodec) {
         super(configCodec);
@@ -31,7 +31,7 @@ public class Spike extends Feature<NoisySphereConfig> {
     }
 
     public boolean place(WorldGenLevel world, ChunkGenerator chunkGenerator, RandomSource random, BlockPos position, NoisySphereConfig config) {
-        setSeed(world.getSeed(), config.noiseFrequency());
+        FastNoise fastNoise = FastNoiseSamplers.get(world.getSeed(), NOISE_SETTINGS.withFrequency(config.noiseFrequency()));
 
         boolean use2D = random.nextDouble() < config.noise2DChance();
         RadiusMatcher radiusMatcher = config.radiusMatcher();
@@ -66,7 +66,7 @@ public class Spike extends Feature<NoisySphereConfig> {
                     double zFract = (double) z / zRadius;
 
                     if (verifiedHeight) {
-                        double addedHeight = config.useScaledNoiseHeight() ? getScaledNoiseExtensionHeight(mutable2, centerHeight) : 1;
+                        double addedHeight = config.useScaledNoiseHeight() ? getScaledNoiseExtensionHeight(fastNoise, mutable2, centerHeight) : 1;
                         if (addedHeight > built[x + xRadius][z + zRadius]) {
 
                             for (double y = -yRadius; y <= yRadius; y++) {
@@ -145,19 +145,9 @@ public class Spike extends Feature<NoisySphereConfig> {
         return true;
     }
 
-    private double getScaledNoiseExtensionHeight(BlockPos.MutableBlockPos mutable2, double centerHeight) {
+    private double getScaledNoiseExtensionHeight(FastNoise fastNoise, BlockPos.MutableBlockPos mutable2, double centerHeight) {
         float perlin1 = Math.abs(fastNoise.GetPerlin((float) mutable2.getX(), (float) mutable2.getZ()));
         double height = Mth.lerp(perlin1, 2, 5);
         return Mth.lerp(perlin1, height, centerHeight + 25);
     }
-
-
-    public void setSeed(long seed, float noiseFreq) {
-        if (this.seed != seed || fastNoise == null) {
-            fastNoise = new FastNoise((int) seed);
-            fastNoise.SetNoiseType(FastNoise.NoiseType.Cellular);
-            this.seed = seed;
-        }
-        fastNoise.SetFrequency(noiseFreq);
-    }
 }
\ No newline at end of file
@@ -19,7 +19,6 @@ import potionstudios.byg.common.block.BYGBlocks;
 import potionstudios.byg.common.world.feature.BYGFeatures;
 import potionstudios.byg.common.world.feature.config.NoisySphereConfig;
 import potionstudios.byg.common.world.feature.config.SimpleBlockProviderConfig;
-import potionstudios.byg.common.world.math.noise.fastnoise.FastNoise;
 
 import java.util.HashSet;
 import java.util.Optional;
@@ -33,17 +32,12 @@ public class ArchFeature extends Feature<SimpleBlockProviderConfig> {
         super(configCodec);
     }
 
-    protected long seed;
-    protected static FastNoise fastNoise;
-
-
     @Override
     public boolean place(FeaturePlaceContext<SimpleBlockProviderConfig> featurePlaceContext) {
         return place(featurePlaceContext.level(), featurePlaceContext.chunkGenerator(), featurePlaceContext.random(), featurePlaceContext.origin(), featurePlaceContext.config());
     }
 
     public boolean place(WorldGenLevel world, ChunkGenerator chunkGenerator, RandomSource random, BlockPos center, SimpleBlockProviderConfig config) {
-        setSeed(world.getSeed());
         double angle = random.nextDouble() * Math.PI;
 
         ChunkPos chunkPos = new ChunkPos(center);
@@ -105,14 +99,6 @@ public class ArchFeature extends Feature<SimpleBlockProviderConfig> {
     }
 
 
-    public void setSeed(long seed) {
-        if (this.seed != seed || fastNoise == null) {
-            fastNoise = new FastNoise((int) seed);
-            fastNoise.SetNoiseType(FastNoise.NoiseType.Simplex);
-            this.seed = seed;
-        }
-    }
-
     public static double easeOutCubic(double factor, double min, double max) {
         double range = max - min;
         return min + (range * BlendingFunctions.easeOutCubic(factor));
@@ -1,15 +1,11 @@
 package potionstudios.byg.common.world.feature.gen.overworld;
 
 import com.mojang.serialization.Codec;
-import it.unimi.dsi.fastutil.bytes.Byte2DoubleOpenHashMap;
-import it.unimi.dsi.fastutil.bytes.Byte2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Mth;
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.block.state.BlockState;
@@ -22,15 +18,17 @@ import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
 import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConfiguration;
 import potionstudios.byg.common.block.BYGBlocks;
 import potionstudios.byg.common.world.math.noise.fastnoise.FastNoise;
+import potionstudios.byg.common.world.math.noise.fastnoise.FastNoiseSamplers;
 import potionstudios.byg.mixin.access.ChunkAccessAccess;
 import potionstudios.byg.util.DuneCache;
+import potionstudios.byg.util.DuneColumnCache;
 
 public class DuneFeature extends Feature<NoneFeatureConfiguration> {
-    protected static FastNoise fastNoise;
-    protected static FastNoise fastNoise1;
-    protected static FastNoise dunePeakNoise1;
-    protected static FastNoise dunePeakNoise2;
-    protected long seed;
+    private static final FastNoiseSamplers.Settings DUNE_PEAK_NOISE_SETTINGS = FastNoiseSamplers.Settings.of(FastNoise.NoiseType.Cellular)
+        .withFrequency(0.023F)
+        .withCellular(FastNoise.CellularDistanceFunction.Euclidean, FastNoise.CellularReturnType.Distance2Mul)
+        .withGradientPerturbAmp(1.5F);
+    private static final FastNoiseSamplers.Settings DUNE_PEAK_NOISE_SETTINGS_2 = DUNE_PEAK_NOISE_SETTINGS.withSeedOffset(76457567);
 
     public DuneFeature(Codec<NoneFeatureConfiguration> $$0) {
         super($$0);
@@ -43,17 +41,13 @@ public class DuneFeature extends Feature<NoneFeatureConfiguration> {
     public boolean place(FeaturePlaceContext<NoneFeatureConfiguration> featurePlaceContext) {
         ChunkGenerator chunkGenerator = featurePlaceContext.chunkGenerator();
         WorldGenLevel level = featurePlaceContext.level();
-        setSeed(level.getSeed(), (float) FREQUENCY);
+        FastNoise dunePeakNoise1 = FastNoiseSamplers.get(level.getSeed(), DUNE_PEAK_NOISE_SETTINGS);
+        FastNoise dunePeakNoise2 = FastNoiseSamplers.get(level.getSeed(), DUNE_PEAK_NOISE_SETTINGS_2);
         BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
 
         ServerLevel serverLevel = level.getLevel();
 
-        DuneCache duneCache = (DuneCache) serverLevel;
-        Long2ObjectOpenHashMap<Byte2ObjectOpenHashMap<ResourceKey<Biome>>> biomeAt = duneCache.getBiomeAt();
-        if (biomeAt.size() > 4096) {
-            biomeAt.clear();
-        }
-        Long2ObjectOpenHashMap<Byte2DoubleOpenHashMap> densityAt = duneCache.getDensityAt();
+        DuneColumnCache duneColumnCache = ((DuneCache) serverLevel).getDuneColumnCache();
 
         for (int xMove = 0; xMove < 16; xMove++) {
             for (int zMove = 0; zMove < 16; zMove++) {
@@ -70,7 +64,7 @@ public class DuneFeature extends Feature<NoneFeatureConfiguration> {
 
                 BlockPos.MutableBlockPos blendingPos = new BlockPos.MutableBlockPos().set(mutableBlockPos);
 
-                double density = getBlendDensity(biomeAt, level, chunkGenerator, chunk, mutableBlockPos, height, 10, blendingPos, 4);
+                double density = getBlendDensity(duneColumnCache, level, chunkGenerator, chunk, mutableBlockPos, height, 10, blendingPos, 4);
 
                 int oceanFloor = level.getHeight(Heightmap.Types.OCEAN_FLOOR_WG, mutableBlockPos.getX(), mutableBlockPos.getZ());
                 int blendedDuneHeight = (int) Mth.clampedLerp(oceanFloor - 3, height, 1.0 - density);
@@ -90,15 +84,18 @@ public class DuneFeature extends Feature<NoneFeatureConfiguration> {
         return true;
     }
 
-    private double getBlendDensity(Long2ObjectOpenHashMap<Byte2ObjectOpenHashMap<ResourceKey<Biome>>> biomeAt, WorldGenLevel level, ChunkGenerator generator, ChunkAccess chunk, BlockPos.MutableBlockPos mutableBlockPos, double height, int blendRange, BlockPos.MutableBlockPos blendingPos, int precision) {
+    private double getBlendDensity(DuneColumnCache duneColumnCache, WorldGenLevel level, ChunkGenerator generator, ChunkAccess chunk, BlockPos.MutableBlockPos mutableBlockPos, double height, int blendRange, BlockPos.MutableBlockPos blendingPos, int precision) {
         double density = 0;
         for (int x = -blendRange; x <= blendRange; x += precision) {
             for (int z = -blendRange; z <= blendRange; z += precision) {
                 blendingPos.set(mutableBlockPos).move(x, 0, z);
                 int worldSurfaceHeight = level.getHeight(Heightmap.Types.WORLD_SURFACE_WG, blendingPos.getX(), blendingPos.getZ());
                 blendingPos.setY(worldSurfaceHeight);
-                Byte2ObjectOpenHashMap<ResourceKey<Biome>> localResourceKey = biomeAt.computeIfAbsent(ChunkPos.asLong(blendingPos), key -> new Byte2ObjectOpenHashMap<>());
-                ResourceKey<Biome> biomeResourceKey = localResourceKey.computeIfAbsent(DuneCache.getLocalPackedCoord(blendingPos), key -> level.getBiome(blendingPos).unwrapKey().orElseThrow());
+                ResourceKey<Biome> biomeResourceKey = duneColumnCache.getBiome(blendingPos.getX(), blendingPos.getZ());
+                if (biomeResourceKey == null) {
+                    biomeResourceKey = level.getBiome(blendingPos).unwrapKey().orElseThrow();
+                    duneColumnCache.putBiome(blendingPos.getX(), blendingPos.getZ(), biomeResourceKey);
+                }
                 boolean outsideBiome = worldSurfaceHeight < height;
 
                 NoiseChunk noiseChunk = ((ChunkAccessAccess) chunk).byg_getNoiseChunk();
@@ -116,28 +113,7 @@ public class DuneFeature extends Feature<NoneFeatureConfiguration> {
     }
 
     private float peakNoise(FastNoise noise, BlockPos.MutableBlockPos mutableBlockPos) {
-        noise.SetFrequency(0.023F);
-        noise.SetNoiseType(FastNoise.NoiseType.Cellular);
-        noise.SetCellularDistanceFunction(FastNoise.CellularDistanceFunction.Euclidean);
-        noise.SetCellularReturnType(FastNoise.CellularReturnType.Distance2Mul);
-        noise.SetGradientPerturbAmp(1.5F);
-
         return 1 - noise.GetNoise((float) (mutableBlockPos.getX()), 0, (float) (mutableBlockPos.getZ()));
     }
 
-    public void setSeed(long seed, float noiseFreq) {
-        if (this.seed != seed || fastNoise == null) {
-            fastNoise = new FastNoise((int) seed);
-            fastNoise.SetNoiseType(FastNoise.NoiseType.SimplexFractal);
-            fastNoise.SetFractalType(FastNoise.FractalType.RigidMulti);
-            fastNoise.SetFractalOctaves(2);
-            this.seed = seed;
-
-            fastNoise1 = new FastNoise((int) seed);
-            dunePeakNoise1 = new FastNoise((int) seed);
-            dunePeakNoise2 = new FastNoise((int) seed + 76457567);
-        }
-    }
-
-
 }
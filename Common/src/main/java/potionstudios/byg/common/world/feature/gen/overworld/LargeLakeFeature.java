@@ -21,6 +21,7 @@ import net.minecraft.world.level.material.Fluids;
 import net.minecraft.world.level.material.Material;
 import potionstudios.byg.common.world.feature.config.LargeLakeFeatureConfig;
 import potionstudios.byg.common.world.math.noise.fastnoise.FastNoise;
+import potionstudios.byg.common.world.math.noise.fastnoise.FastNoiseSamplers;
 import potionstudios.byg.util.MLBlockTags;
 
 import java.util.ArrayList;
@@ -32,8 +33,7 @@ public class LargeLakeFeature extends Feature<LargeLakeFeatureConfig> {
     public static final boolean DEBUG = false;
 
     public static Direction[] DIRECTIONS = new Direction[]{Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST, Direction.DOWN};
-    public static FastNoise fastNoise;
-    protected static long seed;
+    private static final FastNoiseSamplers.Settings NOISE_SETTINGS = FastNoiseSamplers.Settings.of(FastNoise.NoiseType.Simplex).withFrequency(0.8F);
 
     public LargeLakeFeature(Codec<LargeLakeFeatureConfig> $$0) {
         super($$0);
@@ -45,7 +45,7 @@ public class LargeLakeFeature extends Feature<LargeLakeFeatureConfig> {
     }
 
     public boolean place(WorldGenLevel world, ChunkGenerator chunkGenerator, RandomSource random, BlockPos blockPos, LargeLakeFeatureConfig config) {
-        setSeed(world.getSeed());
+        FastNoise fastNoise = FastNoiseSamplers.get(world.getSeed(), NOISE_SETTINGS);
 
         BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos().set(blockPos);
         BlockPos.MutableBlockPos mutable2 = new BlockPos.MutableBlockPos().set(mutable);
@@ -171,15 +171,6 @@ public class LargeLakeFeature extends Feature<LargeLakeFeatureConfig> {
         }
     }
 
-    public static void setSeed(long worldSeed) {
-        if (seed != worldSeed || fastNoise == null) {
-            fastNoise = new FastNoise((int) worldSeed);
-            fastNoise.SetNoiseType(FastNoise.NoiseType.Simplex);
-            fastNoise.SetFrequency(0.8f);
-            seed = worldSeed;
-        }
-    }
-
     private static boolean canReplace(BlockState state) {
         Material material = state.getMaterial();
         return (!state.isAir() && material.isReplaceable())
@@ -37,6 +37,7 @@ import potionstudios.byg.common.block.EtherBulbsBlock;
 import potionstudios.byg.common.world.feature.config.BYGTreeConfig;
 import potionstudios.byg.common.world.feature.gen.FeatureGenUtil;
 import potionstudios.byg.common.world.math.noise.fastnoise.FastNoise;
+import potionstudios.byg.common.world.math.noise.fastnoise.FastNoiseSamplers;
 import potionstudios.byg.util.MLBlockTags;
 
 import java.util.HashMap;
@@ -47,8 +48,7 @@ import java.util.Set;
 @Deprecated(forRemoval = true)
 public abstract class BYGAbstractTreeFeature<TFC extends BYGTreeConfig> extends Feature<TFC> {
 
-    protected static FastNoise fastNoise;
-    protected long seed;
+    private static final FastNoiseSamplers.Settings DISK_NOISE_SETTINGS = FastNoiseSamplers.Settings.of(FastNoise.NoiseType.Simplex);
 
     public static final Map<Block, Block> SPREADABLE_TO_NON_SPREADABLE = new HashMap<>();
 
@@ -425,7 +425,7 @@ public abstract class BYGAbstractTreeFeature<TFC extends BYGTreeConfig> extends
         if (!(world instanceof WorldGenRegion) || config.getDiskRadius() <= 0)
             return;
 
-        setSeed(world.getSeed());
+        FastNoise fastNoise = FastNoiseSamplers.get(world.getSeed(), DISK_NOISE_SETTINGS);
         MutableBlockPos mutable = new MutableBlockPos().set(pos);
 
         int diskRadius = config.getDiskRadius();
@@ -453,14 +453,6 @@ public abstract class BYGAbstractTreeFeature<TFC extends BYGTreeConfig> extends
         }
     }
 
-    public void setSeed(long seed) {
-        if (this.seed != seed || fastNoise == null) {
-            fastNoise = new FastNoise((int) seed);
-            fastNoise.SetNoiseType(FastNoise.NoiseType.Simplex);
-            this.seed = seed;
-        }
-    }
-
 
     public final void setFinalBlockState(Set<BlockPos> changedBlocks, LevelWriter worldIn, BlockPos pos, BlockState blockState, BoundingBox boundingBox) {
         this.setBlockStateWithoutUpdates(worldIn, pos, blockState);
@@ -32,6 +32,7 @@ public class BetweenNoiseThresholdProvider extends NoiseBasedStateProvider {
     private final BlockStateProvider withinNoiseStateProvider;
     private final BlockStateProvider outsideNoiseStateProvider;
     private final boolean use3D;
+    private final ThresholdIndex thresholdIndex;
 
     public BetweenNoiseThresholdProvider(long seed, NormalNoise.NoiseParameters noiseParameters, float scale, List<FloatProvider> thresholds, BlockStateProvider withinNoiseStateProvider, BlockStateProvider outsideNoiseStateProvider, boolean use3D) {
         super(seed, noiseParameters, scale);
@@ -39,6 +40,7 @@ public class BetweenNoiseThresholdProvider extends NoiseBasedStateProvider {
         this.withinNoiseStateProvider = withinNoiseStateProvider;
         this.outsideNoiseStateProvider = outsideNoiseStateProvider;
         this.use3D = use3D;
+        this.thresholdIndex = new ThresholdIndex(thresholds.stream().mapToDouble(FloatProvider::getMinValue).toArray(), thresholds.stream().mapToDouble(FloatProvider::getMaxValue).toArray());
     }
 
 
@@ -47,10 +49,8 @@ public class BetweenNoiseThresholdProvider extends NoiseBasedStateProvider {
         double noiseValue = this.use3D ? getNoiseValue2D(pos, 4) : this.getNoiseValue(pos, this.scale);
 //        BYG.logInfo(noiseValue);
 
-        for (FloatProvider threshold : this.thresholds) {
-            if (noiseValue >= threshold.getMinValue() && noiseValue <= threshold.getMaxValue()) {
-                return this.withinNoiseStateProvider.getState(random, pos);
-            }
+        if (this.thresholdIndex.contains(noiseValue)) {
+            return this.withinNoiseStateProvider.getState(random, pos);
         }
         return this.outsideNoiseStateProvider.getState(random, pos);
     }
@@ -0,0 +1,72 @@
+package potionstudios.byg.common.world.feature.stateproviders;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * The union of the thresholds as sorted, disjoint closed intervals, with a uniform bucket table over their range pointing at the first interval that may contain a value.
+ * Looking up a value checks one bucket and on average a single interval, however many thresholds there are.
+ */
+final class ThresholdIndex {
+    private final double[] mins;
+    private final double[] maxes;
+    private final int[] bucketFirstInterval;
+    private final double bucketScale;
+
+    /**
+     * @param thresholdMins  The lower bound of every threshold, in any order.
+     * @param thresholdMaxes The upper bound of every threshold, matching {@code thresholdMins}.
+     */
+    ThresholdIndex(double[] thresholdMins, double[] thresholdMaxes) {
+        Integer[] order = new Integer[thresholdMins.length];
+        Arrays.setAll(order, threshold -> threshold);
+        Arrays.sort(order, Comparator.comparingDouble(threshold -> thresholdMins[threshold]));
+        double[] mins = new double[order.length];
+        double[] maxes = new double[order.length];
+        int intervalCount = 0;
+        for (int threshold : order) {
+            double min = thresholdMins[threshold];
+            double max = thresholdMaxes[threshold];
+            if (!(min <= max)) {
+                continue;
+            }
+            if (intervalCount > 0 && min <= maxes[intervalCount - 1]) {
+                maxes[intervalCount - 1] = Math.max(maxes[intervalCount - 1], max);
+            } else {
+                mins[intervalCount] = min;
+                maxes[intervalCount++] = max;
+            }
+        }
+        this.mins = Arrays.copyOf(mins, intervalCount);
+        this.maxes = Arrays.copyOf(maxes, intervalCount);
+
+        this.bucketFirstInterval = new int[Math.max(1, intervalCount * 2)];
+        double range = intervalCount == 0 ? 0 : this.maxes[intervalCount - 1] - this.mins[0];
+        this.bucketScale = range > 0 ? this.bucketFirstInterval.length / range : 0;
+        int interval = 0;
+        for (int bucket = 0; bucket < this.bucketFirstInterval.length; bucket++) {
+            double bucketStart = intervalCount == 0 ? 0 : this.mins[0] + bucket / this.bucketScale;
+            while (interval < intervalCount - 1 && this.maxes[interval] < bucketStart) {
+                interval++;
+            }
+            this.bucketFirstInterval[bucket] = interval;
+        }
+    }
+
+    boolean contains(double value) {
+        int intervalCount = this.mins.length;
+        if (intervalCount == 0 || !(value >= this.mins[0] && value <= this.maxes[intervalCount - 1])) {
+            return false;
+        }
+        int bucket = Math.min((int) ((value - this.mins[0]) * this.bucketScale), this.bucketFirstInterval.length - 1);
+        int interval = this.bucketFirstInterval[bucket];
+        // Bucket starts are rounded, so the value may sit just before its bucket's first interval.
+        while (interval > 0 && this.maxes[interval - 1] >= value) {
+            interval--;
+        }
+        while (this.maxes[interval] < value) {
+            interval++;
+        }
+        return this.mins[interval] <= value;
+    }
+}
@@ -0,0 +1,79 @@
+package potionstudios.byg.common.world.math.noise.fastnoise;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hands out fully configured {@link FastNoise} samplers keyed by world seed & {@link Settings}.
+ * <p>
+ * Each sampler is created and configured once per seed and is never reconfigured afterwards, so a single instance can safely be sampled from every world gen thread at once.
+ * Callers must never call any of the {@code Set*} methods on a sampler returned from here.
+ */
+public final class FastNoiseSamplers {
+
+    private static final int MAX_CACHED_SEEDS = 4;
+
+    private static final Map<Long, Map<Settings, FastNoise>> SAMPLERS = new ConcurrentHashMap<>();
+
+    private FastNoiseSamplers() {
+    }
+
+    public static FastNoise get(long worldSeed, Settings settings) {
+        Map<Settings, FastNoise> samplers = SAMPLERS.get(worldSeed);
+        if (samplers == null) {
+            if (SAMPLERS.size() >= MAX_CACHED_SEEDS) {
+                SAMPLERS.clear();
+            }
+            samplers = SAMPLERS.computeIfAbsent(worldSeed, seed -> new ConcurrentHashMap<>());
+        }
+        return samplers.computeIfAbsent(settings, key -> key.create(worldSeed));
+    }
+
+    /**
+     * Immutable description of a {@link FastNoise} configuration, defaults match those of a freshly constructed {@link FastNoise}.
+     *
+     * @param seedOffset         Added to the integer world seed before it is handed to the sampler.
+     * @param gradientPerturbAmp Passed to {@link FastNoise#SetGradientPerturbAmp}, which scales it by {@code 1 / 0.45}.
+     */
+    public record Settings(int seedOffset, FastNoise.NoiseType noiseType, float frequency,
+                           FastNoise.FractalType fractalType, int fractalOctaves,
+                           FastNoise.CellularDistanceFunction cellularDistanceFunction,
+                           FastNoise.CellularReturnType cellularReturnType, float gradientPerturbAmp) {
+
+        public static Settings of(FastNoise.NoiseType noiseType) {
+            return new Settings(0, noiseType, 0.01F, FastNoise.FractalType.FBM, 3, FastNoise.CellularDistanceFunction.Euclidean, FastNoise.CellularReturnType.CellValue, 1.0F);
+        }
+
+        public Settings withSeedOffset(int seedOffset) {
+            return new Settings(seedOffset, this.noiseType, this.frequency, this.fractalType, this.fractalOctaves, this.cellularDistanceFunction, this.cellularReturnType, this.gradientPerturbAmp);
+        }
+
+        public Settings withFrequency(float frequency) {
+            return new Settings(this.seedOffset, this.noiseType, frequency, this.fractalType, this.fractalOctaves, this.cellularDistanceFunction, this.cellularReturnType, this.gradientPerturbAmp);
+        }
+
+        public Settings withFractal(FastNoise.FractalType fractalType, int fractalOctaves) {
+            return new Settings(this.seedOffset, this.noiseType, this.frequency, fractalType, fractalOctaves, this.cellularDistanceFunction, this.cellularReturnType, this.gradientPerturbAmp);
+        }
+
+        public Settings withCellular(FastNoise.CellularDistanceFunction cellularDistanceFunction, FastNoise.CellularReturnType cellularReturnType) {
+            return new Settings(this.seedOffset, this.noiseType, this.frequency, this.fractalType, this.fractalOctaves, cellularDistanceFunction, cellularReturnType, this.gradientPerturbAmp);
+        }
+
+        public Settings withGradientPerturbAmp(float gradientPerturbAmp) {
+            return new Settings(this.seedOffset, this.noiseType, this.frequency, this.fractalType, this.fractalOctaves, this.cellularDistanceFunction, this.cellularReturnType, gradientPerturbAmp);
+        }
+
+        private FastNoise create(long worldSeed) {
+            FastNoise fastNoise = new FastNoise((int) worldSeed + this.seedOffset);
+            fastNoise.SetNoiseType(this.noiseType);
+            fastNoise.SetFrequency(this.frequency);
+            fastNoise.SetFractalType(this.fractalType);
+            fastNoise.SetFractalOctaves(this.fractalOctaves);
+            fastNoise.SetCellularDistanceFunction(this.cellularDistanceFunction);
+            fastNoise.SetCellularReturnType(this.cellularReturnType);
+            fastNoise.SetGradientPerturbAmp(this.gradientPerturbAmp);
+            return fastNoise;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.placement.PlacementContext;
 import net.minecraft.world.level.levelgen.placement.PlacementModifier;
 import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
+import potionstudios.byg.util.WorldGenTimings;
 
 import java.util.stream.Stream;
 
@@ -27,7 +28,12 @@ public class AboveHeightmapFilter extends PlacementModifier {
 
     @Override
     public Stream<BlockPos> getPositions(PlacementContext placementContext, RandomSource random, BlockPos blockPos) {
-        return blockPos.getY() >= placementContext.getHeight(heightmap, blockPos.getX(), blockPos.getZ()) ? Stream.of(blockPos) : Stream.empty();
+        int frame = WorldGenTimings.start();
+        try {
+            return blockPos.getY() >= placementContext.getHeight(heightmap, blockPos.getX(), blockPos.getZ()) ? Stream.of(blockPos) : Stream.empty();
+        } finally {
+            WorldGenTimings.end(frame, type());
+        }
     }
 
     @Override
@@ -7,31 +7,88 @@ import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.levelgen.placement.PlacementContext;
 import net.minecraft.world.level.levelgen.placement.PlacementModifier;
 import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
+import potionstudios.byg.util.WorldGenTimings;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+/**
+ * Emits every column of the chunk at y 0, in x-major order.
+ * <p>
+ * Positions are produced lazily from a single mutable cursor, so the following modifiers and the feature are handed the same instance for every column and must not hold on to it.
+ * The placement is meant to be followed by a heightmap placement, which creates its own positions anyway.
+ */
 public class ChunkCoveringPlacement extends PlacementModifier {
     public static final ChunkCoveringPlacement INSTANCE = new ChunkCoveringPlacement();
     public static final Codec<ChunkCoveringPlacement> CODEC = Codec.unit(() -> INSTANCE);
 
     @Override
     public Stream<BlockPos> getPositions(PlacementContext placementContext, RandomSource random, BlockPos blockPos) {
-        List<BlockPos> positions = new ArrayList<>();
-
-        for (int x = 0; x < 16; x++) {
-            for (int z = 0; z < 16; z++) {
-                int chunkMinX = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(blockPos.getX()));
-                int chunkMinZ = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(blockPos.getZ()));
-                positions.add(new BlockPos(chunkMinX + x, 0, chunkMinZ + z));
-            }
+        int frame = WorldGenTimings.start();
+        try {
+            return columns(blockPos);
+        } finally {
+            WorldGenTimings.end(frame, type());
         }
-        return positions.stream();
+    }
+
+    static Stream<BlockPos> columns(BlockPos blockPos) {
+        int chunkMinX = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(blockPos.getX()));
+        int chunkMinZ = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(blockPos.getZ()));
+        return StreamSupport.stream(new ColumnCursor(chunkMinX, chunkMinZ), false);
     }
 
     @Override
     public PlacementModifierType<?> type() {
         return BYGPlacementModifierType.CHUNK_COVERING_PLACEMENT.get();
     }
+
+    private static final class ColumnCursor implements Spliterator<BlockPos> {
+        private static final int COLUMNS = 16 * 16;
+
+        private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        private final int chunkMinX;
+        private final int chunkMinZ;
+        private int index;
+
+        private ColumnCursor(int chunkMinX, int chunkMinZ) {
+            this.chunkMinX = chunkMinX;
+            this.chunkMinZ = chunkMinZ;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super BlockPos> action) {
+            if (this.index >= COLUMNS) {
+                return false;
+            }
+            action.accept(this.cursor.set(this.chunkMinX + (this.index >> 4), 0, this.chunkMinZ + (this.index & 15)));
+            this.index++;
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super BlockPos> action) {
+            for (; this.index < COLUMNS; this.index++) {
+                action.accept(this.cursor.set(this.chunkMinX + (this.index >> 4), 0, this.chunkMinZ + (this.index & 15)));
+            }
+        }
+
+        @Override
+        public Spliterator<BlockPos> trySplit() {
+            // Splitting would hand the same cursor to several consumers at once.
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return COLUMNS - this.index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | NONNULL;
+        }
+    }
 }
@@ -10,6 +10,7 @@ import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.levelgen.placement.PlacementContext;
 import net.minecraft.world.level.levelgen.placement.PlacementModifier;
 import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
+import potionstudios.byg.util.WorldGenTimings;
 
 import java.util.stream.Stream;
 
@@ -28,7 +29,12 @@ public class IsBiomeTagFilter extends PlacementModifier {
 
     @Override
     public Stream<BlockPos> getPositions(PlacementContext placementContext, RandomSource random, BlockPos blockPos) {
-        return placementContext.getLevel().getBiome(blockPos).is(this.biomeTag) ? Stream.of(blockPos) : Stream.of();
+        int frame = WorldGenTimings.start();
+        try {
+            return placementContext.getLevel().getBiome(blockPos).is(this.biomeTag) ? Stream.of(blockPos) : Stream.of();
+        } finally {
+            WorldGenTimings.end(frame, type());
+        }
     }
 
     @Override
@@ -10,6 +10,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.levelgen.placement.PlacementContext;
 import net.minecraft.world.level.levelgen.placement.PlacementModifier;
 import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
+import potionstudios.byg.util.WorldGenTimings;
 
 import java.util.List;
 import java.util.stream.Stream;
@@ -29,7 +30,12 @@ public class IsDimensionFilter extends PlacementModifier {
 
     @Override
     public Stream<BlockPos> getPositions(PlacementContext placementContext, RandomSource random, BlockPos blockPos) {
-        return this.validDimensions.contains(placementContext.getLevel().getLevel().dimension()) ? Stream.of(blockPos) : Stream.empty();
+        int frame = WorldGenTimings.start();
+        try {
+            return this.validDimensions.contains(placementContext.getLevel().getLevel().dimension()) ? Stream.of(blockPos) : Stream.empty();
+        } finally {
+            WorldGenTimings.end(frame, type());
+        }
     }
 
     @Override
@@ -2,16 +2,28 @@ package potionstudios.byg.common.world.placement;
 
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.WorldGenRegion;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.levelgen.placement.PlacementContext;
 import net.minecraft.world.level.levelgen.placement.PlacementModifier;
 import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
+import potionstudios.byg.util.WorldGenTimings;
 
+import java.lang.ref.WeakReference;
 import java.util.stream.Stream;
 
 public class NearWaterPlacementFilter extends PlacementModifier {
+    // Rows of the water bitmaps are ints, so the searched area of a chunk must fit in 32 columns.
+    private static final int MAX_CACHED_RANGE = 8;
+    private static final ThreadLocal<WaterLayers> WATER_LAYERS = ThreadLocal.withInitial(WaterLayers::new);
+
     public static Codec<NearWaterPlacementFilter> CODEC = RecordCodecBuilder.create(builder -> {
       return   builder.group(
               Codec.INT.fieldOf("searchRange").forGetter(nearWaterPlacementFilter -> nearWaterPlacementFilter.waterSearchRange)
@@ -27,19 +39,97 @@ public class NearWaterPlacementFilter extends PlacementModifier {
 
     @Override
     public Stream<BlockPos> getPositions(PlacementContext placementContext, RandomSource random, BlockPos blockPos) {
+        int frame = WorldGenTimings.start();
+        try {
+            return isNearWater(placementContext, blockPos) ? Stream.of(blockPos) : Stream.empty();
+        } finally {
+            WorldGenTimings.end(frame, type());
+        }
+    }
+
+    private boolean isNearWater(PlacementContext placementContext, BlockPos blockPos) {
+        WorldGenLevel level = placementContext.getLevel();
+        if (level instanceof WorldGenRegion region && this.waterSearchRange <= MAX_CACHED_RANGE) {
+            ChunkPos center = region.getCenter();
+            int localX = blockPos.getX() - center.getMinBlockX();
+            int localZ = blockPos.getZ() - center.getMinBlockZ();
+            if (localX >= 0 && localX < 16 && localZ >= 0 && localZ < 16) {
+                return WATER_LAYERS.get().isNearWater(region, center, this.waterSearchRange, localX, blockPos.getY() - 1, localZ);
+            }
+        }
+        return scanNearWater(level, blockPos, this.waterSearchRange);
+    }
+
+    static boolean scanNearWater(BlockGetter level, BlockPos blockPos, int waterSearchRange) {
         for (int xMove = -waterSearchRange; xMove <= waterSearchRange; xMove++) {
             for (int zMove = -waterSearchRange; zMove <= waterSearchRange; zMove++) {
-                if (placementContext.getLevel().getBlockState(blockPos.offset(xMove, -1, zMove)).is(Blocks.WATER)) {
-                    return Stream.of(blockPos);
+                if (level.getBlockState(blockPos.offset(xMove, -1, zMove)).is(Blocks.WATER)) {
+                    return true;
                 }
             }
         }
-
-        return Stream.empty();
+        return false;
     }
 
     @Override
     public PlacementModifierType<?> type() {
         return BYGPlacementModifierType.NEAR_WATER_FILTER.get();
     }
+
+    /**
+     * Which columns around the chunk being decorated have water, per y level, filled in lazily as candidates of the chunk are checked.
+     * <p>
+     * A region only decorates a single chunk, so the bitmaps are dropped as soon as a different region asks.
+     * Water placed or removed by features of the same region after a column was read is not seen.
+     */
+    static final class WaterLayers {
+        private WeakReference<BlockGetter> level = new WeakReference<>(null);
+        private int range = -1;
+        private final Int2ObjectMap<Layer> layers = new Int2ObjectOpenHashMap<>();
+
+        boolean isNearWater(BlockGetter level, ChunkPos center, int range, int localX, int y, int localZ) {
+            if (this.level.get() != level || this.range != range) {
+                this.level = new WeakReference<>(level);
+                this.range = range;
+                this.layers.clear();
+            }
+            Layer layer = this.layers.get(y);
+            if (layer == null) {
+                layer = new Layer(16 + range * 2);
+                this.layers.put(y, layer);
+            }
+
+            int originX = center.getMinBlockX() - range;
+            int originZ = center.getMinBlockZ() - range;
+            // Window columns, the candidate sits at column localX + range of the bitmap.
+            int window = ((1 << (range * 2 + 1)) - 1) << localX;
+            BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+            for (int row = localZ; row <= localZ + range * 2; row++) {
+                if ((layer.water[row] & window) != 0) {
+                    return true;
+                }
+                int unknown = window & ~layer.known[row];
+                while (unknown != 0) {
+                    int column = Integer.numberOfTrailingZeros(unknown);
+                    unknown &= unknown - 1;
+                    layer.known[row] |= 1 << column;
+                    if (level.getBlockState(mutable.set(originX + column, y, originZ + row)).is(Blocks.WATER)) {
+                        layer.water[row] |= 1 << column;
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Layer {
+        private final int[] known;
+        private final int[] water;
+
+        private Layer(int size) {
+            this.known = new int[size];
+            this.water = new int[size];
+        }
+    }
 }
@@ -6,6 +6,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.LevelHeightAccessor;
+import net.minecraft.world.level.block.Rotation;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.WorldgenRandom;
 import net.minecraft.world.level.levelgen.structure.BoundingBox;
@@ -46,7 +47,7 @@ public class AncientSequoiaTreeStructure extends Structure {
         int blockZ = chunkPos.getBlockZ(random.nextInt(16));
         int blockY = context.chunkGenerator().getFirstFreeHeight(blockX, blockZ, Heightmap.Types.OCEAN_FLOOR_WG, context.heightAccessor(), context.randomState()) + 1;
 
-        piecesBuilder.addPiece(new AncientTreePiece(structureTemplateOptional.get(), config.location, new BlockPos(blockX, blockY, blockZ), getWritableArea(chunkPos, context.heightAccessor())));
+        piecesBuilder.addPiece(new AncientTreePiece(structureTemplateOptional.get(), config.location, new BlockPos(blockX, blockY, blockZ), Rotation.getRandom(random)));
     }
 
     public static BoundingBox getWritableArea(ChunkPos chunkPos, LevelHeightAccessor accessor) {
@@ -1,7 +1,12 @@
 package potionstudios.byg.common.world.structure;
 
-import corgitaco.corgilib.world.level.feature.gen.TreeFromStructureNBTFeature;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.core.Vec3i;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtUtils;
@@ -12,10 +17,12 @@ import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.StructureManager;
 import net.minecraft.world.level.WorldGenLevel;
 import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.Rotation;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.chunk.ChunkGenerator;
 import net.minecraft.world.level.levelgen.blockpredicates.BlockPredicate;
-import net.minecraft.world.level.levelgen.feature.stateproviders.SimpleStateProvider;
 import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.levelgen.structure.StructurePiece;
 import net.minecraft.world.level.levelgen.structure.pieces.StructurePieceSerializationContext;
@@ -23,20 +30,62 @@ import net.minecraft.world.level.levelgen.structure.templatesystem.StructurePlac
 import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
 import potionstudios.byg.common.block.BYGWoodTypes;
 import potionstudios.byg.mixin.access.StructureTemplateAccess;
+import potionstudios.byg.util.WorldGenTimings;
 
-import java.util.HashSet;
 import java.util.List;
 
+/**
+ * Places an ancient tree from an NBT template.
+ * <p>
+ * The template's blocks are resolved once per piece into a packed block list, sorted by chunk, which is saved with the piece.
+ * Each {@link #postProcess} call then only writes the blocks that fall inside the chunk currently being decorated.
+ */
 public class AncientTreePiece extends StructurePiece {
+    private static final int FILL_LOGS_UNDER_DEPTH = 200;
+    private static final BlockPredicate FILL_LOGS_UNDER_UNTIL = BlockPredicate.matchesTag(BlockTags.DIRT);
+    private static final BlockPredicate LEAVES_REPLACEABLE = BlockPredicate.replaceable();
+
+    private static final int TYPE_LOG = 0;
+    private static final int TYPE_LEAVES = 1;
+    private static final int TYPE_FILL_LOGS_UNDER = 2;
+
+    // Packed relative positions: 10 bits x, 12 bits y, 10 bits z.
+    private static final int XZ_BITS = 10;
+    private static final int Y_BITS = 12;
+    private static final int XZ_OFFSET = 1 << (XZ_BITS - 1);
+    private static final int Y_OFFSET = 1 << (Y_BITS - 1);
+
     private final StructureTemplate structureTemplate;
     private final ResourceLocation structureId;
     private final BlockPos placePos;
+    private final Rotation rotation;
+    /**
+     * Positions relative to {@link #placePos}, see {@link #packRelative(BlockPos)}. Sorted by chunk.
+     */
+    private final int[] blocks;
+    /**
+     * Per block: the block type in the upper 4 bits and, for logs the axis ordinal or for leaves the distance, in the lower 4 bits.
+     */
+    private final byte[] blockData;
+    /**
+     * Pieces saved before the block list existed only ever post process in their start chunk and are placed unclipped.
+     */
+    private final boolean legacy;
 
-    protected AncientTreePiece(StructureTemplate template, ResourceLocation structureId, BlockPos placePos, BoundingBox bb) {
-        super(BYGStructurePieceTypes.ANCIENT_TREE_PIECE.get(), 0, bb);
+    protected AncientTreePiece(StructureTemplate template, ResourceLocation structureId, BlockPos placePos, Rotation rotation) {
+        super(BYGStructurePieceTypes.ANCIENT_TREE_PIECE.get(), 0, getTemplateBoundingBox(template, placePos, rotation));
         this.structureTemplate = template;
         this.structureId = structureId;
         this.placePos = placePos;
+        this.rotation = rotation;
+        this.legacy = false;
+
+        IntArrayList packedBlocks = new IntArrayList();
+        ByteArrayList packedData = new ByteArrayList();
+        compileBlocks(template, placePos, rotation, packedBlocks, packedData);
+        this.blocks = packedBlocks.toIntArray();
+        this.blockData = packedData.toByteArray();
+        sortByChunk(this.blocks, this.blockData, placePos);
     }
 
     public AncientTreePiece(StructurePieceSerializationContext context, CompoundTag tag) {
@@ -46,39 +95,208 @@ public class AncientTreePiece extends StructurePiece {
         this.structureId = new ResourceLocation(tag.getString("structure_id"));
 
         this.structureTemplate = context.structureTemplateManager().get(this.structureId).orElseThrow();
+
+        if (tag.contains("blocks") && tag.contains("block_data")) {
+            this.rotation = Rotation.valueOf(tag.getString("rotation"));
+            this.blocks = tag.getIntArray("blocks");
+            this.blockData = tag.getByteArray("block_data");
+            this.legacy = false;
+        } else {
+            this.rotation = Rotation.getRandom(RandomSource.create(this.placePos.asLong()));
+            IntArrayList packedBlocks = new IntArrayList();
+            ByteArrayList packedData = new ByteArrayList();
+            compileBlocks(this.structureTemplate, this.placePos, this.rotation, packedBlocks, packedData);
+            this.blocks = packedBlocks.toIntArray();
+            this.blockData = packedData.toByteArray();
+            sortByChunk(this.blocks, this.blockData, this.placePos);
+            this.legacy = true;
+        }
     }
 
     @Override
     protected void addAdditionalSaveData(StructurePieceSerializationContext structurePieceSerializationContext, CompoundTag compoundTag) {
         compoundTag.put("place_pos", NbtUtils.writeBlockPos(this.placePos));
         compoundTag.putString("structure_id", this.structureId.toString());
+        compoundTag.putString("rotation", this.rotation.name());
+        compoundTag.putIntArray("blocks", this.blocks);
+        compoundTag.putByteArray("block_data", this.blockData);
     }
 
     @Override
     public void postProcess(WorldGenLevel worldGenLevel, StructureManager structureManager, ChunkGenerator chunkGenerator, RandomSource randomSource, BoundingBox boundingBox, ChunkPos chunkPos, BlockPos blockPos) {
-        StructurePlaceSettings placeSettings = new StructurePlaceSettings().setRotation(Rotation.getRandom(randomSource));
-        List<StructureTemplate.Palette> basePalettes = ((StructureTemplateAccess) this.structureTemplate).byg_getPalettes();
+        int frame = WorldGenTimings.start();
+        try {
+            placePiece(worldGenLevel, structureManager, chunkGenerator, randomSource, boundingBox, chunkPos, blockPos);
+        } finally {
+            WorldGenTimings.end(frame, this.getType());
+        }
+    }
+
+    private void placePiece(WorldGenLevel worldGenLevel, StructureManager structureManager, ChunkGenerator chunkGenerator, RandomSource randomSource, BoundingBox boundingBox, ChunkPos chunkPos, BlockPos blockPos) {
+        int start = 0;
+        int end = this.blocks.length;
+        if (!this.legacy) {
+            long chunkKey = chunkPos.toLong();
+            start = firstIndexInChunk(chunkKey);
+            end = start;
+            while (end < this.blocks.length && chunkKeyOf(this.blocks[end], this.placePos) == chunkKey) {
+                end++;
+            }
+        }
+
+        BlockState log = BYGWoodTypes.REDWOOD.log().defaultBlockState();
+        BlockState leaves = BYGWoodTypes.REDWOOD.leaves().defaultBlockState();
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        for (int i = start; i < end; i++) {
+            unpackRelative(this.blocks[i], this.placePos, mutable);
+            if (!this.legacy && !boundingBox.isInside(mutable)) {
+                continue;
+            }
+            int data = this.blockData[i];
+            int extra = data & 0xF;
+            switch (data >>> 4) {
+                case TYPE_LOG -> {
+                    BlockState state = log.hasProperty(BlockStateProperties.AXIS) ? log.setValue(BlockStateProperties.AXIS, Direction.Axis.values()[extra]) : log;
+                    worldGenLevel.setBlock(mutable, state, 2);
+                }
+                case TYPE_LEAVES -> {
+                    if (LEAVES_REPLACEABLE.test(worldGenLevel, mutable)) {
+                        BlockState state = leaves.hasProperty(LeavesBlock.DISTANCE) ? leaves.setValue(LeavesBlock.DISTANCE, extra) : leaves;
+                        worldGenLevel.setBlock(mutable, state, 2);
+                    }
+                }
+                case TYPE_FILL_LOGS_UNDER -> {
+                    for (int depth = 0; depth < FILL_LOGS_UNDER_DEPTH && !FILL_LOGS_UNDER_UNTIL.test(worldGenLevel, mutable); depth++) {
+                        if (this.legacy || boundingBox.isInside(mutable)) {
+                            worldGenLevel.setBlock(mutable, log, 2);
+                        }
+                        mutable.move(Direction.DOWN);
+                    }
+                }
+            }
+        }
+    }
+
+    private int firstIndexInChunk(long chunkKey) {
+        int low = 0;
+        int high = this.blocks.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (chunkKeyOf(this.blocks[mid], this.placePos) < chunkKey) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static BoundingBox getTemplateBoundingBox(StructureTemplate template, BlockPos placePos, Rotation rotation) {
+        StructurePlaceSettings placeSettings = new StructurePlaceSettings().setRotation(rotation);
+        BoundingBox templateBox = template.getBoundingBox(placeSettings, placePos.offset(StructureTemplate.calculateRelativePosition(placeSettings, getLocalOffset(template))));
+        return new BoundingBox(templateBox.minX(), templateBox.minY() - FILL_LOGS_UNDER_DEPTH, templateBox.minZ(), templateBox.maxX(), templateBox.maxY(), templateBox.maxZ());
+    }
+
+    private static BlockPos getLocalOffset(StructureTemplate template) {
+        Vec3i size = template.getSize();
+        return new BlockPos(-size.getX() / 2, 0, -size.getZ() / 2);
+    }
 
-        Vec3i size = structureTemplate.getSize();
+    private static void compileBlocks(StructureTemplate template, BlockPos placePos, Rotation rotation, IntArrayList packedBlocks, ByteArrayList packedData) {
+        StructurePlaceSettings placeSettings = new StructurePlaceSettings().setRotation(rotation);
+        List<StructureTemplate.Palette> basePalettes = ((StructureTemplateAccess) template).byg_getPalettes();
+        BlockPos localOffset = getLocalOffset(template);
+        StructureTemplate.Palette palette = placeSettings.getRandomPalette(basePalettes, placePos.offset(localOffset));
 
-        BlockPos localOffset = new BlockPos(-size.getX() / 2, 0, -size.getZ() / 2);
-        BlockPos offsettedPlacePos = this.placePos.offset(localOffset);
-        structureTemplate.getBoundingBox(placeSettings, offsettedPlacePos);
+        Long2IntOpenHashMap leafDistances = new Long2IntOpenHashMap();
+        leafDistances.defaultReturnValue(-1);
+        LongArrayFIFOQueue toVisit = new LongArrayFIFOQueue();
 
-        StructureTemplate.Palette randomPalette = placeSettings.getRandomPalette(basePalettes, offsettedPlacePos);
-        TreeFromStructureNBTFeature.fillLogsUnder(randomSource, SimpleStateProvider.simple(BYGWoodTypes.REDWOOD.log().defaultBlockState()), worldGenLevel, this.placePos, placeSettings, localOffset, randomPalette.blocks(Blocks.RED_WOOL), 200, BlockPredicate.matchesTag(BlockTags.DIRT));
+        for (StructureTemplate.StructureBlockInfo info : palette.blocks(Blocks.RED_WOOL)) {
+            packedBlocks.add(packRelative(StructureTemplate.calculateRelativePosition(placeSettings, info.pos.offset(localOffset))));
+            packedData.add((byte) (TYPE_FILL_LOGS_UNDER << 4));
+        }
 
-        HashSet<BlockPos> trunkPositions = new HashSet<>();
+        for (StructureTemplate.StructureBlockInfo info : palette.blocks(BYGWoodTypes.REDWOOD.log().get())) {
+            BlockPos relative = StructureTemplate.calculateRelativePosition(placeSettings, info.pos.offset(localOffset));
+            Direction.Axis axis = info.state.hasProperty(BlockStateProperties.AXIS) ? info.state.rotate(rotation).getValue(BlockStateProperties.AXIS) : Direction.Axis.Y;
+            packedBlocks.add(packRelative(relative));
+            packedData.add((byte) (TYPE_LOG << 4 | axis.ordinal()));
+            toVisit.enqueue(relative.asLong());
+            leafDistances.put(relative.asLong(), 0);
+        }
 
-        TreeFromStructureNBTFeature.placeLogsWithRotation(SimpleStateProvider.simple(BYGWoodTypes.REDWOOD.log().defaultBlockState()), worldGenLevel, this.placePos, randomSource, placeSettings, localOffset, randomPalette.blocks(BYGWoodTypes.REDWOOD.log().get()), trunkPositions);
+        List<StructureTemplate.StructureBlockInfo> leaves = palette.blocks(BYGWoodTypes.REDWOOD.leaves().get());
+        Long2IntOpenHashMap leafIndices = new Long2IntOpenHashMap(leaves.size());
+        for (StructureTemplate.StructureBlockInfo info : leaves) {
+            long relative = StructureTemplate.calculateRelativePosition(placeSettings, info.pos.offset(localOffset)).asLong();
+            leafIndices.put(relative, leafIndices.size());
+        }
 
-        HashSet<BlockPos> leavePositions = new HashSet<>();
+        // Flood fill outwards from the logs so leaves get their real distance instead of decaying or relying on a block tick to correct it.
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        while (!toVisit.isEmpty()) {
+            long current = toVisit.dequeueLong();
+            int distance = leafDistances.get(current);
+            if (distance >= LeavesBlock.DECAY_DISTANCE) {
+                continue;
+            }
+            for (Direction direction : Direction.values()) {
+                mutable.set(current).move(direction);
+                long neighbor = mutable.asLong();
+                if (leafIndices.containsKey(neighbor) && leafDistances.get(neighbor) == -1) {
+                    leafDistances.put(neighbor, distance + 1);
+                    toVisit.enqueue(neighbor);
+                }
+            }
+        }
 
-        TreeFromStructureNBTFeature.placeLeavesWithCalculatedDistanceAndRotation(SimpleStateProvider.simple(BYGWoodTypes.REDWOOD.leaves().defaultBlockState()), worldGenLevel, this.placePos, randomSource, placeSettings, randomPalette.blocks(BYGWoodTypes.REDWOOD.leaves().get()), leavePositions, localOffset, BlockPredicate.replaceable());
+        for (StructureTemplate.StructureBlockInfo info : leaves) {
+            BlockPos relative = StructureTemplate.calculateRelativePosition(placeSettings, info.pos.offset(localOffset));
+            int distance = leafDistances.get(relative.asLong());
+            packedBlocks.add(packRelative(relative));
+            packedData.add((byte) (TYPE_LEAVES << 4 | (distance == -1 ? LeavesBlock.DECAY_DISTANCE : distance)));
+        }
+    }
 
-        TreeFromStructureNBTFeature.placeTreeDecorations(List.of(), worldGenLevel, randomSource, leavePositions, trunkPositions);
+    private static void sortByChunk(int[] blocks, byte[] blockData, BlockPos placePos) {
+        long[] chunkKeys = new long[blocks.length];
+        for (int i = 0; i < blocks.length; i++) {
+            chunkKeys[i] = chunkKeyOf(blocks[i], placePos);
+        }
+        IntArrays.quickSort(blocks.length, (a, b) -> Long.compare(chunkKeys[a], chunkKeys[b]), (a, b) -> {
+            long chunkKey = chunkKeys[a];
+            chunkKeys[a] = chunkKeys[b];
+            chunkKeys[b] = chunkKey;
+            int block = blocks[a];
+            blocks[a] = blocks[b];
+            blocks[b] = block;
+            byte data = blockData[a];
+            blockData[a] = blockData[b];
+            blockData[b] = data;
+        });
+    }
 
-        this.boundingBox = structureTemplate.getBoundingBox(placeSettings, this.placePos.offset(localOffset));
+    private static long chunkKeyOf(int packedRelative, BlockPos placePos) {
+        int x = placePos.getX() + (packedRelative >>> (Y_BITS + XZ_BITS)) - XZ_OFFSET;
+        int z = placePos.getZ() + (packedRelative & ((1 << XZ_BITS) - 1)) - XZ_OFFSET;
+        return ChunkPos.asLong(x >> 4, z >> 4);
+    }
+
+    private static int packRelative(BlockPos relative) {
+        int x = relative.getX() + XZ_OFFSET;
+        int y = relative.getY() + Y_OFFSET;
+        int z = relative.getZ() + XZ_OFFSET;
+        if (x < 0 || x >= 1 << XZ_BITS || y < 0 || y >= 1 << Y_BITS || z < 0 || z >= 1 << XZ_BITS) {
+            throw new IllegalArgumentException("Ancient tree block %s is too far from the tree's origin.".formatted(relative));
+        }
+        return x << (Y_BITS + XZ_BITS) | y << XZ_BITS | z;
+    }
 
+    private static void unpackRelative(int packedRelative, BlockPos origin, BlockPos.MutableBlockPos mutable) {
+        int x = (packedRelative >>> (Y_BITS + XZ_BITS)) - XZ_OFFSET;
+        int y = ((packedRelative >>> XZ_BITS) & ((1 << Y_BITS) - 1)) - Y_OFFSET;
+        int z = (packedRelative & ((1 << XZ_BITS) - 1)) - XZ_OFFSET;
+        mutable.setWithOffset(origin, x, y, z);
     }
 }
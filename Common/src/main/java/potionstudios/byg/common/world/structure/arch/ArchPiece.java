@@ -3,6 +3,7 @@ package potionstudios.byg.common.world.structure.arch;
 import com.mojang.datafixers.util.Pair;
 import com.mojang.serialization.DataResult;
 import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.nbt.*;
@@ -23,7 +24,9 @@ import potionstudios.byg.BYG;
 import potionstudios.byg.common.world.feature.BYGFeatures;
 import potionstudios.byg.common.world.feature.config.NoisySphereConfig;
 import potionstudios.byg.common.world.structure.BYGStructurePieceTypes;
+import potionstudios.byg.util.WorldGenTimings;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -32,6 +35,15 @@ public class ArchPiece extends StructurePiece {
 
     public static final boolean DEBUG = false;
 
+    /**
+     * Version of the packed position format, legacy pieces store a list of compounds under "positions" and have no version.
+     */
+    private static final int POSITIONS_VERSION = 1;
+    /**
+     * Marks positions that snap to the ocean floor heightmap when placed, which {@link BlockPos#asLong} can't represent.
+     */
+    private static final int SURFACE_Y = Integer.MIN_VALUE;
+
     private final Set<BlockPos> positions = new HashSet<>();
     private final NoisySphereConfig config;
 
@@ -46,11 +58,7 @@ public class ArchPiece extends StructurePiece {
 
         RegistryOps<Tag> tagRegistryOps = RegistryOps.create(NbtOps.INSTANCE, context.registryAccess());
 
-        ListTag positions = tag.getList("positions", Tag.TAG_COMPOUND);
-
-        for (Tag position : positions) {
-            this.positions.add(NbtUtils.readBlockPos((CompoundTag) position));
-        }
+        readPositions(tag, this.positions);
 
         if (!tag.contains("config")) {
             BYG.logError("No arch config info was present.");
@@ -63,14 +71,9 @@ public class ArchPiece extends StructurePiece {
 
     @Override
     protected void addAdditionalSaveData(StructurePieceSerializationContext context, CompoundTag compoundTag) {
-        ListTag positions = new ListTag();
-
         RegistryOps<Tag> tagRegistryOps = RegistryOps.create(NbtOps.INSTANCE, context.registryAccess());
 
-        for (BlockPos position : this.positions) {
-            positions.add(NbtUtils.writeBlockPos(position));
-        }
-        compoundTag.put("positions", positions);
+        writePositions(this.positions, compoundTag);
         DataResult<Tag> encodeStart = NoisySphereConfig.CODEC.encodeStart(tagRegistryOps, this.config);
         Optional<DataResult.PartialResult<Tag>> error = encodeStart.error();
         error.ifPresent(tagPartialResult -> BYG.logError("BYG Arch piece serialization error: " + tagPartialResult));
@@ -79,12 +82,71 @@ public class ArchPiece extends StructurePiece {
         compoundTag.put("config", encodeStart.result().orElseThrow());
     }
 
+    static void readPositions(CompoundTag tag, Set<BlockPos> positions) {
+        if (tag.contains("positions_version", Tag.TAG_INT)) {
+            for (long packedPos : readDeltas(tag.getLongArray("packed_positions"))) {
+                positions.add(BlockPos.of(packedPos));
+            }
+            for (long packedColumn : readDeltas(tag.getLongArray("packed_surface_positions"))) {
+                positions.add(new BlockPos((int) (packedColumn >> 32), SURFACE_Y, (int) packedColumn));
+            }
+        } else {
+            for (Tag position : tag.getList("positions", Tag.TAG_COMPOUND)) {
+                positions.add(NbtUtils.readBlockPos((CompoundTag) position));
+            }
+        }
+    }
+
+    static void writePositions(Set<BlockPos> positions, CompoundTag tag) {
+        LongArrayList packedPositions = new LongArrayList(positions.size());
+        LongArrayList packedSurfacePositions = new LongArrayList();
+        for (BlockPos position : positions) {
+            if (position.getY() == SURFACE_Y) {
+                packedSurfacePositions.add((long) position.getX() << 32 | position.getZ() & 0xFFFFFFFFL);
+            } else {
+                packedPositions.add(position.asLong());
+            }
+        }
+        tag.putInt("positions_version", POSITIONS_VERSION);
+        tag.putLongArray("packed_positions", writeDeltas(packedPositions));
+        tag.putLongArray("packed_surface_positions", writeDeltas(packedSurfacePositions));
+    }
+
+    /**
+     * Sorts the values and stores each as the difference to the previous one, so neighbouring positions become small numbers that compress well in region files.
+     */
+    private static long[] writeDeltas(LongArrayList values) {
+        long[] deltas = values.toLongArray();
+        Arrays.sort(deltas);
+        for (int i = deltas.length - 1; i > 0; i--) {
+            deltas[i] -= deltas[i - 1];
+        }
+        return deltas;
+    }
+
+    private static long[] readDeltas(long[] deltas) {
+        long[] values = deltas.clone();
+        for (int i = 1; i < values.length; i++) {
+            values[i] += values[i - 1];
+        }
+        return values;
+    }
+
     @Override
     public void postProcess(WorldGenLevel worldGenLevel, StructureManager structureFeatureManager, ChunkGenerator chunkGenerator, RandomSource random, BoundingBox boundingBox, ChunkPos chunkPos, BlockPos blockPos) {
+        int frame = WorldGenTimings.start();
+        try {
+            placePiece(worldGenLevel, structureFeatureManager, chunkGenerator, random, boundingBox, chunkPos, blockPos);
+        } finally {
+            WorldGenTimings.end(frame, this.getType());
+        }
+    }
+
+    private void placePiece(WorldGenLevel worldGenLevel, StructureManager structureFeatureManager, ChunkGenerator chunkGenerator, RandomSource random, BoundingBox boundingBox, ChunkPos chunkPos, BlockPos blockPos) {
         Long2ObjectLinkedOpenHashMap<BlockState> toPlace = new Long2ObjectLinkedOpenHashMap<>(1000);
 
         for (BlockPos position : this.positions) {
-            if (position.getY() == Integer.MIN_VALUE) {
+            if (position.getY() == SURFACE_Y) {
                 position = new BlockPos(position.getX(), worldGenLevel.getHeight(Heightmap.Types.OCEAN_FLOOR_WG, position.getX(), position.getZ()) + 1, position.getZ());
             }
 
@@ -1,10 +1,8 @@
 package potionstudios.byg.common.world.structure.volcano;
 
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
-import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.util.random.SimpleWeightedRandomList;
 import net.minecraft.util.valueproviders.UniformFloat;
@@ -22,13 +20,23 @@ import net.minecraft.world.level.levelgen.structure.pieces.StructurePieceSeriali
 import net.minecraft.world.level.levelgen.synth.NormalNoise;
 import potionstudios.byg.common.block.BYGBlocks;
 import potionstudios.byg.common.world.feature.stateproviders.BetweenNoiseThresholdProvider;
-import potionstudios.byg.common.world.math.noise.fastnoise.lite.FastNoiseLite;
 import potionstudios.byg.common.world.structure.BYGStructurePieceTypes;
+import potionstudios.byg.util.WorldGenTimings;
 
 import java.util.List;
 
 public class VolcanoPiece extends StructurePiece {
 
+    /**
+     * Never reconfigured after construction, so shared between every piece and world gen thread.
+     */
+    private static final BetweenNoiseThresholdProvider VOLCANO_STATE_PROVIDER = new BetweenNoiseThresholdProvider(123, new NormalNoise.NoiseParameters(-9, 1.0D, 1.0D, 1.0D, 1.0D), 1,
+            List.of(UniformFloat.of(-0.0045F - 0.9F, 0.0045F - 0.9F), UniformFloat.of(-0.0045F, 0.0045F)), BlockStateProvider.simple(Blocks.MAGMA_BLOCK), new WeightedStateProvider(SimpleWeightedRandomList.<BlockState>builder()
+            .add(Blocks.BASALT.defaultBlockState(), 9)
+            .add(BYGBlocks.BLACK_SAND.defaultBlockState(), 2)
+            .add(Blocks.DEEPSLATE.defaultBlockState(), 5)
+            .add(Blocks.SMOOTH_BASALT.defaultBlockState(), 10).build()), false);
+
     private final VolcanoStructure.PieceStructureInfo structureInfo;
 
     protected VolcanoPiece(VolcanoStructure.PieceStructureInfo structureInfo, int genDepth, BoundingBox boundingBox) {
@@ -37,7 +45,7 @@ public class VolcanoPiece extends StructurePiece {
     }
 
     public VolcanoPiece(StructurePieceSerializationContext context, CompoundTag tag) {
-        super(BYGStructurePieceTypes.ARCH_PIECE.get(), tag);
+        super(BYGStructurePieceTypes.VOLCANO_PIECE.get(), tag);
         this.structureInfo = VolcanoStructure.PieceStructureInfo.CODEC.decode(NbtOps.INSTANCE, tag.get("volcano_info")).result().orElseThrow().getFirst();
     }
 
@@ -49,75 +57,30 @@ public class VolcanoPiece extends StructurePiece {
 
     @Override
     public void postProcess(WorldGenLevel worldGenLevel, StructureManager structureManager, ChunkGenerator chunkGenerator, RandomSource randomSource, BoundingBox boundingBox, ChunkPos chunkPos, BlockPos blockPos) {
-        BetweenNoiseThresholdProvider weightedBlockStateProvider = new BetweenNoiseThresholdProvider(123, new NormalNoise.NoiseParameters(-9, 1.0D, 1.0D, 1.0D, 1.0D), 1,
-                List.of(UniformFloat.of(-0.0045F - 0.9F, 0.0045F - 0.9F), UniformFloat.of(-0.0045F, 0.0045F)), BlockStateProvider.simple(Blocks.MAGMA_BLOCK), new WeightedStateProvider(SimpleWeightedRandomList.<BlockState>builder()
-                .add(Blocks.BASALT.defaultBlockState(), 9)
-                .add(BYGBlocks.BLACK_SAND.defaultBlockState(), 2)
-                .add(Blocks.DEEPSLATE.defaultBlockState(), 5)
-                .add(Blocks.SMOOTH_BASALT.defaultBlockState(), 10).build()), false);
+        int frame = WorldGenTimings.start();
+        try {
+            placePiece(worldGenLevel, structureManager, chunkGenerator, randomSource, boundingBox, chunkPos, blockPos);
+        } finally {
+            WorldGenTimings.end(frame, this.getType());
+        }
+    }
 
-        double baseRadius = this.structureInfo.baseRadius();
-        double leakage = this.structureInfo.leakage();
+    private void placePiece(WorldGenLevel worldGenLevel, StructureManager structureManager, ChunkGenerator chunkGenerator, RandomSource randomSource, BoundingBox boundingBox, ChunkPos chunkPos, BlockPos blockPos) {
+        BlockPos origin = this.structureInfo.origin();
         int volcanoConeSize = this.structureInfo.volcanoConeSize();
-        int volcanoStartHeight = this.structureInfo.volcanoStartHeight();
-        double threshold = 0.35;
-        int maxY = this.structureInfo.maxY();
-        int baseHeight = this.structureInfo.origin().getY();
-
-        int fluidYOffset = this.structureInfo.fluidY();
+        VolcanoShape shape = new VolcanoShape(origin.getX(), origin.getZ(), this.structureInfo.baseRadius(), this.structureInfo.leakage(), volcanoConeSize, this.structureInfo.maxY(), this.structureInfo.fluidY());
+        int startY = origin.getY() + this.structureInfo.volcanoStartHeight();
 
-        FastNoiseLite fastNoiseLite = FastNoiseLite.createSpongePerlin(this.structureInfo.noiseSeed());
+        int minX = Math.max(origin.getX() - volcanoConeSize, chunkPos.getMinBlockX());
+        int maxX = Math.min(origin.getX() + volcanoConeSize, chunkPos.getMaxBlockX());
 
-        fastNoiseLite.SetFrequency(0.05F);
-
-        BlockPos subtract = this.structureInfo.origin().offset(-volcanoConeSize, 0, -volcanoConeSize);
-        int startX = subtract.getX();
-        int startZ = subtract.getZ();
-
-        BlockPos add = this.structureInfo.origin().offset(volcanoConeSize, 0, volcanoConeSize);
-        int endX = add.getX();
-        int endZ = add.getZ();
+        int minZ = Math.max(origin.getZ() - volcanoConeSize, chunkPos.getMinBlockZ());
+        int maxZ = Math.min(origin.getZ() + volcanoConeSize, chunkPos.getMaxBlockZ());
 
         BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-        int minX = Math.max(startX, chunkPos.getMinBlockX());
-        int maxX = Math.min(endX, chunkPos.getMaxBlockX());
-
-        int minZ = Math.max(startZ, chunkPos.getMinBlockZ());
-        int maxZ = Math.min(endZ, chunkPos.getMaxBlockZ());
-
-        for (int worldX = minX; worldX <= maxX; worldX++) {
-            int localX = worldX - this.structureInfo.origin().getX();
-
-            for (int worldZ = minZ; worldZ <= maxZ; worldZ++) {
-                int localZ = worldZ - this.structureInfo.origin().getZ();
-
-                for (double y = -volcanoConeSize; y <= maxY; y++) {
-
-                    mutable.set(worldX, baseHeight + y + volcanoStartHeight, worldZ);
-                    float spongePerlinValue = FastNoiseLite.getSpongePerlinValue(fastNoiseLite.GetNoise(mutable.getX(), mutable.getZ()));
-
-                    double scaledNoise = (spongePerlinValue / 13) * (-(y * baseRadius) / ((localX * localX) + (localZ * localZ)));
-
-
-                    int fluidY = maxY - fluidYOffset;
-                    double lava = scaledNoise - leakage - (leakage / 2) - 0.5;
-                    double crater = scaledNoise - 0.05;
-                    if (lava >= threshold) {
-                        if (y <= fluidY) {
-                            worldGenLevel.setBlock(mutable, Blocks.LAVA.defaultBlockState(), 2, 1);
-                        }
-                    } else if (crater >= threshold) {
-                        double pct = threshold / crater;
-                        double craterY = Mth.clampedLerp(maxY, fluidY, 1 - pct);
-                        if (y <= craterY) {
-                            worldGenLevel.setBlock(mutable, weightedBlockStateProvider.getState(randomSource, mutable), 2, 1);
-                        }
-                    } else if (scaledNoise >= threshold) {
-                        worldGenLevel.setBlock(mutable, weightedBlockStateProvider.getState(randomSource, mutable), 2, 1);
-                    }
-                    mutable.move(Direction.DOWN);
-                }
-            }
-        }
+        shape.forEachBlock(VolcanoShape.getSpongeNoise(this.structureInfo.noiseSeed()), minX, maxX, minZ, maxZ, (worldX, y, worldZ, lava) -> {
+            mutable.set(worldX, startY + y, worldZ);
+            worldGenLevel.setBlock(mutable, lava ? Blocks.LAVA.defaultBlockState() : VOLCANO_STATE_PROVIDER.getState(randomSource, mutable), 2, 1);
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package potionstudios.byg.common.world.structure.volcano;
+
+import net.minecraft.util.Mth;
+import potionstudios.byg.common.world.math.noise.fastnoise.lite.FastNoiseLite;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides which blocks of a volcano are lava and which are rock, independent of the level it is placed in.
+ */
+final class VolcanoShape {
+
+    static final double THRESHOLD = 0.35;
+    private static final double COLUMN_SKIP_EPSILON = 1.0E-9;
+
+    /**
+     * Every piece of a volcano shares its structure start's noise seed, so the configured sampler is built once per volcano instead of once per chunk.
+     */
+    private static final int MAX_CACHED_SPONGE_NOISE = 64;
+    private static final Map<Integer, FastNoiseLite> SPONGE_NOISE = new ConcurrentHashMap<>();
+
+    private final int originX;
+    private final int originZ;
+    private final double baseRadius;
+    private final double leakage;
+    private final int volcanoConeSize;
+    private final int maxY;
+    private final int fluidY;
+
+    VolcanoShape(int originX, int originZ, double baseRadius, double leakage, int volcanoConeSize, int maxY, int fluidYOffset) {
+        this.originX = originX;
+        this.originZ = originZ;
+        this.baseRadius = baseRadius;
+        this.leakage = leakage;
+        this.volcanoConeSize = volcanoConeSize;
+        this.maxY = maxY;
+        this.fluidY = maxY - fluidYOffset;
+    }
+
+    /**
+     * Visits every block of the volcano within the given inclusive column bounds, in x, z then ascending y order.
+     * y is relative to the volcano's start height.
+     */
+    void forEachBlock(FastNoiseLite noise, int minX, int maxX, int minZ, int maxZ, BlockConsumer consumer) {
+        int volcanoConeSize = this.volcanoConeSize;
+        int maxY = this.maxY;
+        double baseRadius = this.baseRadius;
+
+        for (int worldX = minX; worldX <= maxX; worldX++) {
+            int localX = worldX - this.originX;
+
+            for (int worldZ = minZ; worldZ <= maxZ; worldZ++) {
+                int localZ = worldZ - this.originZ;
+                int distanceSquared = (localX * localX) + (localZ * localZ);
+
+                // The 2D noise only depends on the column, sample it once instead of for every y.
+                float columnNoise = FastNoiseLite.getSpongePerlinValue(noise.GetNoise(worldX, worldZ)) / 13;
+
+                // Scaled noise is linear in y, so if neither end of the column reaches the threshold nothing in between does either.
+                if (distanceSquared != 0) {
+                    double bottom = columnNoise * (-(-volcanoConeSize * baseRadius) / distanceSquared);
+                    double top = columnNoise * (-(maxY * baseRadius) / distanceSquared);
+                    if (Math.max(bottom, top) < THRESHOLD - COLUMN_SKIP_EPSILON) {
+                        continue;
+                    }
+                }
+
+                for (double y = -volcanoConeSize; y <= maxY; y++) {
+                    double scaledNoise = columnNoise * (-(y * baseRadius) / distanceSquared);
+
+                    double lava = scaledNoise - this.leakage - (this.leakage / 2) - 0.5;
+                    double crater = scaledNoise - 0.05;
+                    if (lava >= THRESHOLD) {
+                        if (y <= this.fluidY) {
+                            consumer.accept(worldX, y, worldZ, true);
+                        }
+                    } else if (crater >= THRESHOLD) {
+                        double pct = THRESHOLD / crater;
+                        double craterY = Mth.clampedLerp(maxY, this.fluidY, 1 - pct);
+                        if (y <= craterY) {
+                            consumer.accept(worldX, y, worldZ, false);
+                        }
+                    } else if (scaledNoise >= THRESHOLD) {
+                        consumer.accept(worldX, y, worldZ, false);
+                    }
+                }
+            }
+        }
+    }
+
+    static FastNoiseLite getSpongeNoise(int seed) {
+        FastNoiseLite noise = SPONGE_NOISE.get(seed);
+        if (noise == null) {
+            if (SPONGE_NOISE.size() >= MAX_CACHED_SPONGE_NOISE) {
+                SPONGE_NOISE.clear();
+            }
+            noise = SPONGE_NOISE.computeIfAbsent(seed, key -> {
+                FastNoiseLite fastNoiseLite = FastNoiseLite.createSpongePerlin(key);
+                fastNoiseLite.SetFrequency(0.05F);
+                return fastNoiseLite;
+            });
+        }
+        return noise;
+    }
+
+    @FunctionalInterface
+    interface BlockConsumer {
+        void accept(int worldX, double y, int worldZ, boolean lava);
+    }
+}
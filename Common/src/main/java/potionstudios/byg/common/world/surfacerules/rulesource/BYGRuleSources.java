@@ -18,7 +18,11 @@ public class BYGRuleSources {
     }
 
     public static BlockRuleSourceWithTick stateWithTick(BlockState state, int tickDelay) {
-        return new BlockRuleSourceWithTick(state, tickDelay);
+        return stateWithTick(state, tickDelay, BlockRuleSourceWithTick.TickCoalescing.NONE);
+    }
+
+    public static BlockRuleSourceWithTick stateWithTick(BlockState state, int tickDelay, BlockRuleSourceWithTick.TickCoalescing tickCoalescing) {
+        return new BlockRuleSourceWithTick(state, tickDelay, tickCoalescing);
     }
 
     public static BandsRuleSource bands(BlockState... bandStates) {
@@ -0,0 +1,43 @@
+package potionstudios.byg.common.world.surfacerules.rulesource;
+
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.SurfaceRules;
+
+import javax.annotation.Nullable;
+
+/**
+ * Surface rule of {@link BetweenRepeatingNoiseRange}, applying the rule of the band the column's noise value falls in, the rules repeating over the bands.
+ * <p>
+ * Surface rules are applied down a column before moving to the next one, so the band is only looked up again once the column changes.
+ */
+final class BandRule implements SurfaceRules.SurfaceRule {
+    private final NoiseBands bands;
+    private final ColumnNoise noise;
+    private final SurfaceRules.SurfaceRule[] rules;
+    private boolean hasColumn;
+    private int columnX;
+    private int columnZ;
+    private int columnBand;
+
+    BandRule(NoiseBands bands, ColumnNoise noise, SurfaceRules.SurfaceRule[] rules) {
+        this.bands = bands;
+        this.noise = noise;
+        this.rules = rules;
+    }
+
+    @Nullable
+    @Override
+    public BlockState tryApply(int x, int y, int z) {
+        if (!this.hasColumn || x != this.columnX || z != this.columnZ) {
+            this.columnBand = this.bands.find(this.noise.getValue(x, z));
+            this.columnX = x;
+            this.columnZ = z;
+            this.hasColumn = true;
+        }
+        return this.columnBand < 0 ? null : this.rules[this.columnBand % this.rules.length].tryApply(x, y, z);
+    }
+
+    interface ColumnNoise {
+        double getValue(int x, int z);
+    }
+}
@@ -11,7 +11,6 @@ import net.minecraft.world.level.levelgen.synth.NormalNoise;
 import potionstudios.byg.mixin.access.SurfaceRuleContextAccess;
 import potionstudios.byg.mixin.access.SurfaceSystemAccess;
 
-import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -26,8 +25,6 @@ public final class BandsRuleSource implements SurfaceRules.RuleSource {
             ).apply(builder, BandsRuleSource::new)));
 
     private final BlockState[] bandStates;
-    @Nullable
-    private BlockState[] generatedBands = null;
 
     public BandsRuleSource(List<BlockState> bandStates) {
         this(bandStates.toArray(BlockState[]::new));
@@ -48,16 +45,14 @@ public final class BandsRuleSource implements SurfaceRules.RuleSource {
     @Override
     public SurfaceRules.SurfaceRule apply(SurfaceRules.Context context) {
         SurfaceSystem system = ((SurfaceRuleContextAccess) (Object) context).byg_getSystem();
-        if (generatedBands == null) {
-            generatedBands = this.generateBands(((SurfaceSystemAccess) system).byg_getNoiseRandom().fromHashOf(new ResourceLocation("clay_bands")));
-        }
-
-        return (x, y, z) -> getBand(x, y, z, generatedBands, ((SurfaceSystemAccess) system).byg_getClayBandsOffsetNoise());
+        return new BandsRule(((BandTables) system).byg_getBandTable(this), ((SurfaceSystemAccess) system).byg_getClayBandsOffsetNoise());
     }
 
-    private static BlockState getBand(int x, int y, int z, BlockState[] bands, NormalNoise offsetNoise) {
-        int noiseVal = (int) Math.round(offsetNoise.getValue(x, 0.0D, z) * 4.0D);
-        return bands[(y + noiseVal + bands.length) % bands.length];
+    /**
+     * Generates the band table for the given surface system, called once per system by {@link BandTables}.
+     */
+    public BlockState[] generateBands(SurfaceSystem system) {
+        return this.generateBands(((SurfaceSystemAccess) system).byg_getNoiseRandom().fromHashOf(new ResourceLocation("clay_bands")));
     }
 
     private BlockState[] generateBands(RandomSource p_189965_) {
@@ -94,6 +89,42 @@ public final class BandsRuleSource implements SurfaceRules.RuleSource {
         return ablockstate;
     }
 
+    /**
+     * Surface rules are applied once per chunk and evaluated top to bottom for every column, so the offset noise is only sampled when the column changes.
+     */
+    private static final class BandsRule implements SurfaceRules.SurfaceRule {
+        private final BlockState[] bands;
+        private final NormalNoise offsetNoise;
+        private boolean hasColumn;
+        private int columnX;
+        private int columnZ;
+        private int columnOffset;
+
+        private BandsRule(BlockState[] bands, NormalNoise offsetNoise) {
+            this.bands = bands;
+            this.offsetNoise = offsetNoise;
+        }
+
+        @Override
+        public BlockState tryApply(int x, int y, int z) {
+            if (!this.hasColumn || x != this.columnX || z != this.columnZ) {
+                this.columnOffset = (int) Math.round(this.offsetNoise.getValue(x, 0.0D, z) * 4.0D);
+                this.columnX = x;
+                this.columnZ = z;
+                this.hasColumn = true;
+            }
+            return this.bands[(y + this.columnOffset + this.bands.length) % this.bands.length];
+        }
+    }
+
+    /**
+     * Implemented by {@link SurfaceSystem}, which exists once per seed and keeps the band table of every bands rule source built for it.
+     * Tables are built once, on first use, and never modified afterwards.
+     */
+    public interface BandTables {
+        BlockState[] byg_getBandTable(BandsRuleSource bandsRuleSource);
+    }
+
     public BlockState[] bandStates() {
         return bandStates;
     }
@@ -9,11 +9,16 @@ import net.minecraft.util.valueproviders.FloatProvider;
 import net.minecraft.world.level.levelgen.SurfaceRules;
 import net.minecraft.world.level.levelgen.synth.NormalNoise;
 import potionstudios.byg.common.world.feature.stateproviders.BetweenNoiseThresholdProvider;
+import potionstudios.byg.mixin.access.SurfaceRuleContextAccess;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+/**
+ * Repeats the given rule sources over evenly spaced bands of a noise, bands being {@code size} wide with equally wide gaps between them.
+ * <p>
+ * Behaves like a sequence of one noise condition per band, but samples the noise once per column and finds its band with a binary search over the band starts.
+ */
 public final class BetweenRepeatingNoiseRange implements SurfaceRules.RuleSource {
 
     public static final KeyDispatchDataCodec<BetweenRepeatingNoiseRange> CODEC = KeyDispatchDataCodec.of(RecordCodecBuilder.mapCodec(builder ->
@@ -31,7 +36,7 @@ public final class BetweenRepeatingNoiseRange implements SurfaceRules.RuleSource
     private final float min;
     private final float max;
     private final SurfaceRules.RuleSource[] ruleSources;
-    private final SurfaceRules.RuleSource rule;
+    private final NoiseBands bands;
 
     public BetweenRepeatingNoiseRange(ResourceKey<NormalNoise.NoiseParameters> noiseParametersResourceKey, float size, float min, float max, List<SurfaceRules.RuleSource> ruleSources) {
         this(noiseParametersResourceKey, size, min, max, ruleSources.toArray(SurfaceRules.RuleSource[]::new));
@@ -43,18 +48,15 @@ public final class BetweenRepeatingNoiseRange implements SurfaceRules.RuleSource
         this.min = min;
         this.max = max;
         this.ruleSources = ruleSources;
-        this.rule = createNoiseConditions(noiseParametersResourceKey, BetweenNoiseThresholdProvider.createThresholds(size, min, max), ruleSources);
-    }
-
-    private static SurfaceRules.RuleSource createNoiseConditions(ResourceKey<NormalNoise.NoiseParameters> parametersResourceKey, List<FloatProvider> ranges, SurfaceRules.RuleSource... source) {
-        List<SurfaceRules.RuleSource> sources = new ArrayList<>();
-        int index = 0;
-        for (FloatProvider range : ranges) {
-            SurfaceRules.RuleSource ruleSource = source[index % source.length];
-            sources.add(SurfaceRules.ifTrue(SurfaceRules.noiseCondition(parametersResourceKey, range.getMinValue(), range.getMaxValue()), ruleSource));
-            index++;
+        List<FloatProvider> thresholds = BetweenNoiseThresholdProvider.createThresholds(size, min, max);
+        // Band bounds as the thresholds create them, sorted and disjoint.
+        double[] bandMins = new double[thresholds.size()];
+        double[] bandMaxes = new double[thresholds.size()];
+        for (int i = 0; i < thresholds.size(); i++) {
+            bandMins[i] = thresholds.get(i).getMinValue();
+            bandMaxes[i] = thresholds.get(i).getMaxValue();
         }
-        return SurfaceRules.sequence(sources.toArray(SurfaceRules.RuleSource[]::new));
+        this.bands = new NoiseBands(bandMins, bandMaxes);
     }
 
     @Override
@@ -64,6 +66,11 @@ public final class BetweenRepeatingNoiseRange implements SurfaceRules.RuleSource
 
     @Override
     public SurfaceRules.SurfaceRule apply(SurfaceRules.Context context) {
-        return rule.apply(context);
+        NormalNoise noise = ((SurfaceRuleContextAccess) (Object) context).byg_getRandomState().getOrCreateNoise(this.noiseParametersResourceKey);
+        SurfaceRules.SurfaceRule[] rules = new SurfaceRules.SurfaceRule[this.ruleSources.length];
+        for (int i = 0; i < rules.length; i++) {
+            rules[i] = this.ruleSources[i].apply(context);
+        }
+        return new BandRule(this.bands, (x, z) -> noise.getValue(x, 0.0D, z), rules);
     }
 }
@@ -4,6 +4,7 @@ import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.core.BlockPos;
 import net.minecraft.util.KeyDispatchDataCodec;
+import net.minecraft.util.StringRepresentable;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.LevelHeightAccessor;
 import net.minecraft.world.level.block.Block;
@@ -17,16 +18,17 @@ import potionstudios.byg.mixin.access.ChunkAccessAccess;
 import potionstudios.byg.mixin.access.SurfaceRuleContextAccess;
 import potionstudios.byg.mixin.access.SurfaceRulesStateRuleAccess;
 
-public record BlockRuleSourceWithTick(BlockState state, int tickDelay,
+public record BlockRuleSourceWithTick(BlockState state, int tickDelay, TickCoalescing tickCoalescing,
                                       SurfaceRules.StateRule rule) implements SurfaceRules.RuleSource {
     public static final KeyDispatchDataCodec<BlockRuleSourceWithTick> CODEC = KeyDispatchDataCodec.of(RecordCodecBuilder.mapCodec(builder ->
             builder.group(BlockState.CODEC.fieldOf("result_state").forGetter(BlockRuleSourceWithTick::state),
-                    Codec.INT.fieldOf("tick_delay").orElse(0).forGetter(BlockRuleSourceWithTick::tickDelay)
+                    Codec.INT.fieldOf("tick_delay").orElse(0).forGetter(BlockRuleSourceWithTick::tickDelay),
+                    TickCoalescing.CODEC.fieldOf("tick_coalescing").orElse(TickCoalescing.NONE).forGetter(BlockRuleSourceWithTick::tickCoalescing)
             ).apply(builder, BlockRuleSourceWithTick::new)));
 
 
-    BlockRuleSourceWithTick(BlockState blockState, int tickDelay) {
-        this(blockState, tickDelay, SurfaceRulesStateRuleAccess.byg_create(blockState));
+    BlockRuleSourceWithTick(BlockState blockState, int tickDelay, TickCoalescing tickCoalescing) {
+        this(blockState, tickDelay, tickCoalescing, SurfaceRulesStateRuleAccess.byg_create(blockState));
     }
 
     @Override
@@ -37,25 +39,65 @@ public record BlockRuleSourceWithTick(BlockState state, int tickDelay,
     @Override
     public SurfaceRules.SurfaceRule apply(SurfaceRules.Context context) {
         ChunkAccess chunkAccess = ((SurfaceRuleContextAccess) (Object) context).byg_getChunk();
+        DeferredSurfaceTicks deferredTicks = DeferredSurfaceTicks.forChunk(chunkAccess);
         return (x, y, z) -> {
             BlockState blockState = rule.tryApply(x, y, z);
-            // Schedule Block Ticks
-            LevelHeightAccessor heightAccessor = ((ChunkAccessAccess) chunkAccess).byg_getLevelHeightAccessor();
-            if (!(heightAccessor instanceof LevelAccessor levelAccessor)) {
-                throw new IllegalStateException("99% sure a mod is doing something cursed and constructing a chunk access without a server level(or some impl of LevelAccessor) and we can't tick our block due to the lack of level data context here.");
-            }
-
-            BlockPos blockPos = new BlockPos(x, y, z);
-            ScheduledTick<Block> scheduledTick = new ScheduledTick<>(blockState.getBlock(), blockPos, levelAccessor.getLevelData().getGameTime() + this.tickDelay, levelAccessor.nextSubTickCount());
-            chunkAccess.getBlockTicks().schedule(scheduledTick);
-
-            // Schedule Fluid Ticks
-            FluidState fluidState = blockState.getFluidState();
-            if (!fluidState.isEmpty()) {
-                ScheduledTick<Fluid> scheduledFluidTick = new ScheduledTick<>(fluidState.getType(), blockPos, levelAccessor.getLevelData().getGameTime() + this.tickDelay, levelAccessor.nextSubTickCount());
-                chunkAccess.getFluidTicks().schedule(scheduledFluidTick);
+            if (deferredTicks != null) {
+                deferredTicks.record(this, x, y, z);
+            } else {
+                scheduleTicks(chunkAccess, blockState, new BlockPos(x, y, z), this.tickDelay);
             }
             return blockState;
         };
     }
-}
\ No newline at end of file
+
+    static void scheduleTicks(ChunkAccess chunkAccess, BlockState blockState, BlockPos blockPos, int tickDelay) {
+        LevelAccessor levelAccessor = levelAccessor(chunkAccess);
+
+        // Schedule Block Ticks
+        ScheduledTick<Block> scheduledTick = new ScheduledTick<>(blockState.getBlock(), blockPos, levelAccessor.getLevelData().getGameTime() + tickDelay, levelAccessor.nextSubTickCount());
+        chunkAccess.getBlockTicks().schedule(scheduledTick);
+
+        // Schedule Fluid Ticks
+        FluidState fluidState = blockState.getFluidState();
+        if (!fluidState.isEmpty()) {
+            ScheduledTick<Fluid> scheduledFluidTick = new ScheduledTick<>(fluidState.getType(), blockPos, levelAccessor.getLevelData().getGameTime() + tickDelay, levelAccessor.nextSubTickCount());
+            chunkAccess.getFluidTicks().schedule(scheduledFluidTick);
+        }
+    }
+
+    private static LevelAccessor levelAccessor(ChunkAccess chunkAccess) {
+        LevelHeightAccessor heightAccessor = ((ChunkAccessAccess) chunkAccess).byg_getLevelHeightAccessor();
+        if (!(heightAccessor instanceof LevelAccessor levelAccessor)) {
+            throw new IllegalStateException("99% sure a mod is doing something cursed and constructing a chunk access without a server level(or some impl of LevelAccessor) and we can't tick our block due to the lack of level data context here.");
+        }
+        return levelAccessor;
+    }
+
+    /**
+     * Which of the blocks placed by the rule during a surface pass actually get ticks scheduled.
+     */
+    public enum TickCoalescing implements StringRepresentable {
+        /**
+         * Every placed block is ticked once.
+         */
+        NONE("none"),
+        /**
+         * Only the topmost placed block of each column is ticked, for blocks whose tick only matters at the surface.
+         */
+        COLUMN_TOP("column_top");
+
+        public static final Codec<TickCoalescing> CODEC = StringRepresentable.fromEnum(TickCoalescing::values);
+
+        private final String name;
+
+        TickCoalescing(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getSerializedName() {
+            return this.name;
+        }
+    }
+}
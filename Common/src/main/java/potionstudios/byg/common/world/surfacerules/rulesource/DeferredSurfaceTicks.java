@@ -0,0 +1,90 @@
+package potionstudios.byg.common.world.surfacerules.rulesource;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkAccess;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+
+/**
+ * Collects the positions {@link BlockRuleSourceWithTick} rules place blocks at while a chunk's surface is built, and schedules their ticks in one batch once the pass is done.
+ * <p>
+ * Positions are kept packed and deduplicated per rule source, in the order they were first placed so ticks keep the same sub tick order as when scheduled right away.
+ * Outside of a surface pass, e.g. when carvers ask for a top material, rules schedule their ticks directly.
+ */
+public final class DeferredSurfaceTicks {
+
+    private static final ThreadLocal<DeferredSurfaceTicks> CURRENT = new ThreadLocal<>();
+
+    private final ChunkAccess chunk;
+    private final Map<BlockRuleSourceWithTick, Positions> positions = new Reference2ObjectLinkedOpenHashMap<>();
+
+    private DeferredSurfaceTicks(ChunkAccess chunk) {
+        this.chunk = chunk;
+    }
+
+    /**
+     * Starts deferring ticks placed in the given chunk on this thread, called when its surface pass starts.
+     */
+    public static void begin(ChunkAccess chunk) {
+        CURRENT.set(new DeferredSurfaceTicks(chunk));
+    }
+
+    /**
+     * Schedules every tick deferred since {@link #begin}, called when the surface pass finishes.
+     */
+    public static void end() {
+        DeferredSurfaceTicks deferredTicks = CURRENT.get();
+        CURRENT.remove();
+        if (deferredTicks != null) {
+            deferredTicks.flush();
+        }
+    }
+
+    /**
+     * @return The ticks deferred for the given chunk, or null if its surface is not being built on this thread.
+     */
+    @Nullable
+    static DeferredSurfaceTicks forChunk(ChunkAccess chunk) {
+        DeferredSurfaceTicks deferredTicks = CURRENT.get();
+        return deferredTicks != null && deferredTicks.chunk == chunk ? deferredTicks : null;
+    }
+
+    void record(BlockRuleSourceWithTick ruleSource, int x, int y, int z) {
+        Positions positions = this.positions.get(ruleSource);
+        if (positions == null) {
+            positions = new Positions();
+            this.positions.put(ruleSource, positions);
+        }
+
+        if (ruleSource.tickCoalescing() == BlockRuleSourceWithTick.TickCoalescing.COLUMN_TOP) {
+            // Columns are built top down, so the first block placed in a column is its top.
+            long column = ChunkPos.asLong(x, z);
+            if (positions.hasColumn && positions.lastColumn == column) {
+                return;
+            }
+            positions.hasColumn = true;
+            positions.lastColumn = column;
+        }
+        positions.packed.add(BlockPos.asLong(x, y, z));
+    }
+
+    private void flush() {
+        this.positions.forEach((ruleSource, positions) -> {
+            LongIterator iterator = positions.packed.iterator();
+            while (iterator.hasNext()) {
+                BlockRuleSourceWithTick.scheduleTicks(this.chunk, ruleSource.state(), BlockPos.of(iterator.nextLong()), ruleSource.tickDelay());
+            }
+        });
+    }
+
+    private static final class Positions {
+        private final LongLinkedOpenHashSet packed = new LongLinkedOpenHashSet();
+        private boolean hasColumn;
+        private long lastColumn;
+    }
+}
@@ -0,0 +1,34 @@
+package potionstudios.byg.common.world.surfacerules.rulesource;
+
+/**
+ * Sorted, disjoint closed noise intervals of {@link BetweenRepeatingNoiseRange}, searched the way its noise conditions used to be checked one after the other.
+ */
+final class NoiseBands {
+    private final double[] mins;
+    private final double[] maxes;
+
+    NoiseBands(double[] mins, double[] maxes) {
+        this.mins = mins;
+        this.maxes = maxes;
+    }
+
+    /**
+     * @return The index of the band containing the value, or -1 if it falls in a gap or outside all bands.
+     */
+    int find(double value) {
+        int low = 0;
+        int high = this.mins.length - 1;
+        int band = -1;
+        // Last band starting at or before the value.
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (this.mins[mid] <= value) {
+                band = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return band >= 0 && value <= this.maxes[band] ? band : -1;
+    }
+}
@@ -2,13 +2,19 @@ package potionstudios.byg.common.world.surfacerules.rulesource;
 
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.util.KeyDispatchDataCodec;
+import net.minecraft.util.RandomSource;
 import net.minecraft.util.random.SimpleWeightedRandomList;
+import net.minecraft.util.random.WeightedEntry;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.PositionalRandomFactory;
 import net.minecraft.world.level.levelgen.SurfaceRules;
 import net.minecraft.world.level.levelgen.SurfaceSystem;
 import potionstudios.byg.mixin.access.SurfaceRuleContextAccess;
 import potionstudios.byg.util.SeedGetter;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 public final class WeightedRuleSource implements SurfaceRules.RuleSource {
@@ -18,12 +24,39 @@ public final class WeightedRuleSource implements SurfaceRules.RuleSource {
             ).apply(builder, WeightedRuleSource::new)));
 
     private final SimpleWeightedRandomList<SurfaceRules.RuleSource> ruleSources;
+    /**
+     * Distinct rule sources, entries with equal rule sources share a single slot so they're only applied once.
+     */
+    private final SurfaceRules.RuleSource[] distinctRuleSources;
+    /**
+     * Running total of the entry weights, used to pick an entry the same way {@link SimpleWeightedRandomList#getRandomValue} does.
+     */
+    private final int[] cumulativeWeights;
+    private final int[] entryToDistinctRuleSource;
 
     public WeightedRuleSource(SimpleWeightedRandomList<SurfaceRules.RuleSource> ruleSources) {
         this.ruleSources = ruleSources;
         if (ruleSources.isEmpty()) {
             throw new IllegalStateException("Weighted Rule Source must contain at least 1 value!");
         }
+        List<WeightedEntry.Wrapper<SurfaceRules.RuleSource>> entries = ruleSources.unwrap();
+        List<SurfaceRules.RuleSource> distinct = new ArrayList<>();
+        this.cumulativeWeights = new int[entries.size()];
+        this.entryToDistinctRuleSource = new int[entries.size()];
+        int totalWeight = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            WeightedEntry.Wrapper<SurfaceRules.RuleSource> entry = entries.get(i);
+            totalWeight += entry.getWeight().asInt();
+            this.cumulativeWeights[i] = totalWeight;
+
+            int distinctIdx = distinct.indexOf(entry.getData());
+            if (distinctIdx == -1) {
+                distinctIdx = distinct.size();
+                distinct.add(entry.getData());
+            }
+            this.entryToDistinctRuleSource[i] = distinctIdx;
+        }
+        this.distinctRuleSources = distinct.toArray(SurfaceRules.RuleSource[]::new);
     }
 
     @Override
@@ -34,16 +67,55 @@ public final class WeightedRuleSource implements SurfaceRules.RuleSource {
     @Override
     public SurfaceRules.SurfaceRule apply(SurfaceRules.Context context) {
         SurfaceSystem surfaceSystem = ((SurfaceRuleContextAccess) (Object) context).byg_getSystem();
-        PositionalRandomFactory random = ((SeedGetter) surfaceSystem).getRandom();
-        SurfaceRules.SurfaceRule[][] rules = new SurfaceRules.SurfaceRule[16][16];
+        return apply(context, ((SeedGetter) surfaceSystem).getRandom());
+    }
+
+    SurfaceRules.SurfaceRule apply(SurfaceRules.Context context, PositionalRandomFactory random) {
+        return new LazyWeightedRule(context, random);
+    }
+
+    /**
+     * Picks each column's rule and applies it to the context only once the column is first evaluated, instead of eagerly applying all 256 columns for every chunk.
+     */
+    private final class LazyWeightedRule implements SurfaceRules.SurfaceRule {
+        private final SurfaceRules.Context context;
+        private final PositionalRandomFactory random;
+        private final SurfaceRules.SurfaceRule[] appliedRules = new SurfaceRules.SurfaceRule[distinctRuleSources.length];
+        private final SurfaceRules.SurfaceRule[] columnRules = new SurfaceRules.SurfaceRule[256];
+
+        private LazyWeightedRule(SurfaceRules.Context context, PositionalRandomFactory random) {
+            this.context = context;
+            this.random = random;
+        }
+
+        @Nullable
+        @Override
+        public BlockState tryApply(int x, int y, int z) {
+            int localX = x & 15;
+            int localZ = z & 15;
+            int columnIdx = localX << 4 | localZ;
+            SurfaceRules.SurfaceRule rule = this.columnRules[columnIdx];
+            if (rule == null) {
+                int distinctIdx = entryToDistinctRuleSource[pickEntry(this.random.at(localX, 0, localZ))];
+                rule = this.appliedRules[distinctIdx];
+                if (rule == null) {
+                    rule = distinctRuleSources[distinctIdx].apply(this.context);
+                    this.appliedRules[distinctIdx] = rule;
+                }
+                this.columnRules[columnIdx] = rule;
+            }
+            return rule.tryApply(x, y, z);
+        }
+    }
 
-        for (int x = 0; x < rules.length; x++) {
-            for (int z = 0; z < rules[x].length; z++) {
-                SurfaceRules.SurfaceRule apply = this.ruleSources.getRandomValue(random.at(x, 0, z)).get().apply(context);
-                rules[x][z] = apply;
+    private int pickEntry(RandomSource random) {
+        int goalWeight = random.nextInt(this.cumulativeWeights[this.cumulativeWeights.length - 1]);
+        for (int i = 0; i < this.cumulativeWeights.length; i++) {
+            if (goalWeight < this.cumulativeWeights[i]) {
+                return i;
             }
         }
-        return (x, y, z) -> rules[x & 15][z & 15].tryApply(x, y, z);
+        throw new IllegalStateException("Weighted pick out of range.");
     }
 
     public SimpleWeightedRandomList<SurfaceRules.RuleSource> ruleSources() {
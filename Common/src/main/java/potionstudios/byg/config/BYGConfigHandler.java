@@ -9,6 +9,7 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.block.Block;
 import potionstudios.byg.BYGConstants;
 import potionstudios.byg.client.BiomepediaInventoryConfig;
+import potionstudios.byg.client.LeafParticlesConfig;
 import potionstudios.byg.common.block.sapling.GrowingPatterns;
 import potionstudios.byg.common.entity.npc.TradesConfig;
 import potionstudios.byg.common.world.biome.end.EndBiomesConfig;
@@ -21,46 +22,51 @@ import potionstudios.byg.util.ModPlatform;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class BYGConfigHandler {
 
 
-    public static final Set<Exception> CONFIG_EXCEPTIONS = new HashSet<>();
+    public static final Set<Exception> CONFIG_EXCEPTIONS = ConcurrentHashMap.newKeySet();
 
     public static String loadAllConfigs(boolean serialize, boolean recreate) {
         return loadAllConfigs(serialize, recreate, ModPlatform.INSTANCE.isClientEnvironment());
     }
 
     public static String loadAllConfigs(boolean serialize, boolean recreate, boolean isClientSide) {
-        StringBuilder errors = new StringBuilder();
-        errors.append(tryCatchErrors(() -> EndBiomesConfig.getConfig(serialize, recreate, null)));
-        errors.append(tryCatchErrors(() -> NetherBiomesConfig.getConfig(serialize, recreate, null)));
-        errors.append(tryCatchErrors(() -> OverworldBiomeConfig.getConfig(serialize, recreate)));
-        errors.append(tryCatchErrors(() -> SurfaceRulesConfig.getConfig(serialize, recreate)));
-        errors.append(tryCatchErrors(() -> {
-            GrowingPatterns.getConfig(serialize, recreate);
-            FeatureGrowerFromBlockPattern.ENTRIES.forEach(c -> {
+        Path configPath = ModPlatform.INSTANCE.configPath();
+        // Settings are loaded first on their own, every other config logs through them.
+        // Legacy paths are listed too, so a legacy config dropped in between reloads is migrated instead of skipped.
+        ConfigLoader loader = new ConfigLoader()
+            .add("settings", List.of(SettingsConfig.CONFIG_PATH.get()), () -> tryCatchErrors(() -> SettingsConfig.getConfig(serialize, recreate)))
+            .add("end_biomes", List.of(EndBiomesConfig.CONFIG_PATH.get(), EndBiomesConfig.LEGACY_CONFIG_PATH.get()), () -> tryCatchErrors(() -> EndBiomesConfig.getConfig(serialize, recreate, null)), "settings")
+            .add("nether_biomes", List.of(NetherBiomesConfig.CONFIG_PATH.get(), NetherBiomesConfig.LEGACY_CONFIG_PATH.get()), () -> tryCatchErrors(() -> NetherBiomesConfig.getConfig(serialize, recreate, null)), "settings")
+            .add("overworld_biomes", List.of(configPath.resolve("overworld"), configPath.resolve("overworld-biomes.json")), () -> tryCatchErrors(() -> OverworldBiomeConfig.getConfig(serialize, recreate)), "settings")
+            .add("surface_rules", List.copyOf(SurfaceRulesConfig.CONFIG_PATHS.get().values()), () -> tryCatchErrors(() -> SurfaceRulesConfig.getConfig(serialize, recreate)), "settings")
+            .add("growing_patterns", List.of(GrowingPatterns.PATH, GrowingPatterns.OLD_PATH), () -> tryCatchErrors(() -> GrowingPatterns.getConfig(serialize, recreate)), "settings")
+            .add("grower_patterns", List.of(GrowingPatterns.PATH, GrowingPatterns.OLD_PATH), () -> tryCatchErrors(() -> FeatureGrowerFromBlockPattern.ENTRIES.forEach(c -> {
                 if (c.get() instanceof Block block) {
                     c.get().load(block);
                 }
-            });
-        }));
-        errors.append(tryCatchErrors(() -> TradesConfig.getConfig(serialize, recreate)));
-        errors.append(tryCatchErrors(() -> SettingsConfig.getConfig(serialize, recreate)));
+            })), "growing_patterns")
+            .add("trades", List.of(TradesConfig.CONFIG_PATH.get()), () -> tryCatchErrors(() -> TradesConfig.getConfig(serialize, recreate)), "settings");
         if (isClientSide) {
-            errors.append(tryCatchErrors(() -> BiomepediaInventoryConfig.getConfig(serialize, recreate)));
+            loader.add("biomepedia_inventory", List.of(BiomepediaInventoryConfig.CONFIG_PATH.get()), () -> tryCatchErrors(() -> BiomepediaInventoryConfig.getConfig(serialize, recreate)), "settings")
+                .add("leaf_particles", List.of(LeafParticlesConfig.CONFIG_PATH.get()), () -> tryCatchErrors(() -> LeafParticlesConfig.getConfig(serialize, recreate)), "settings");
         }
-        errors.append(tryCatchErrors(() -> BiomepediaConfig.getConfig(serialize, recreate)));
-        errors.append(tryCatchErrors(() -> ConfigVersionTracker.getConfig(new ConfigVersionTracker(BYGConstants.CONFIG_VERSION), recreate)));
-        errors.append(tryCatchErrors(() -> makeREADME()));
+        loader.add("biomepedia", List.of(BiomepediaConfig.CONFIG_PATH.get()), () -> tryCatchErrors(() -> BiomepediaConfig.getConfig(serialize, recreate)), "settings")
+            .add("config_versions", List.of(), () -> tryCatchErrors(() -> ConfigVersionTracker.getConfig(new ConfigVersionTracker(BYGConstants.CONFIG_VERSION), recreate)), "settings")
+            .add("readme", List.of(), () -> tryCatchErrors(() -> makeREADME()), "settings");
+
+        String errors = loader.load(serialize && !recreate);
 
         if (!errors.isEmpty()) {
-            return String.format("Config errors were found:\n\n%s", errors.toString());
+            return String.format("Config errors were found:\n\n%s", errors);
         }
 
-        return errors.toString();
+        return errors;
     }
 
     private static String tryCatchErrors(Runnable run) {
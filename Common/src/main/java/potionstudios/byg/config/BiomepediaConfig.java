@@ -11,9 +11,12 @@ import potionstudios.byg.util.ModPlatform;
 
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.function.Supplier;
 
 public record BiomepediaConfig(boolean biomepediaInventoryButtonEnabled, boolean giveBiomepediaBook) {
 
+    public static final Supplier<Path> CONFIG_PATH = () -> ModPlatform.INSTANCE.configPath().resolve("biomepedia.json5");
+
     public static final Codec<BiomepediaConfig> CODEC = RecordCodecBuilder.create(builder ->
             builder.group(
                     CommentedCodec.of(Codec.BOOL, "inventory_enabled", "Whether the biomepedia inventory BUTTON is enabled or not in the player inventory for all users connected to this host.").forGetter(BiomepediaConfig::biomepediaInventoryButtonEnabled),
@@ -41,7 +44,7 @@ public record BiomepediaConfig(boolean biomepediaInventoryButtonEnabled, boolean
 
 
     private static BiomepediaConfig readConfig(boolean recreate) {
-        final Path path = ModPlatform.INSTANCE.configPath().resolve("biomepedia.json5");
+        final Path path = CONFIG_PATH.get();
 
         if (!path.toFile().exists() || recreate) {
             JanksonUtil.createConfig(path, CODEC, JanksonUtil.HEADER_CLOSED, Util.make(new HashMap<>(), map -> {
@@ -0,0 +1,114 @@
+package potionstudios.byg.config;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import potionstudios.byg.BYG;
+import potionstudios.byg.util.FileUtils;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads independent configs in parallel on a small bounded executor, starting each config once the configs it depends on finished loading.
+ * <p>
+ * When reloading, a config whose files hash the same as after its last load is not parsed again, as long as the last load reported no errors.
+ * The hashes are only kept in memory, so nothing is skipped on startup: only reloads from the validate configs command later in the same session can skip configs.
+ */
+public class ConfigLoader {
+
+    private static final int MAX_THREADS = 4;
+
+    // Task name -> hash of the task's files after it last loaded.
+    private static final Map<String, String> LAST_LOADED_HASHES = new ConcurrentHashMap<>();
+    private static volatile boolean lastLoadHadErrors = true;
+
+    private final Map<String, Task> tasks = new LinkedHashMap<>();
+
+    /**
+     * @param name         Name of the config, used for dependencies and the timing report.
+     * @param files        Files and directories the config reads. Configs without files are never skipped.
+     * @param load         Loads the config, returning an error message or an empty string.
+     * @param dependencies Names of previously added configs that must finish loading first.
+     */
+    public ConfigLoader add(String name, List<Path> files, TaskLoader load, String... dependencies) {
+        for (String dependency : dependencies) {
+            if (!this.tasks.containsKey(dependency)) {
+                throw new IllegalArgumentException(String.format("Config \"%s\" depends on \"%s\" which was not added before it.", name, dependency));
+            }
+        }
+        this.tasks.put(name, new Task(name, files, load, List.of(dependencies)));
+        return this;
+    }
+
+    /**
+     * Loads all added configs.
+     *
+     * @param reload Whether configs may be skipped when their files are unchanged since they were last loaded.
+     * @return The errors of all configs in the order they were added.
+     */
+    public String load(boolean reload) {
+        boolean skipUnchanged = reload && !lastLoadHadErrors && BYGConfigHandler.CONFIG_EXCEPTIONS.isEmpty();
+        int threads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder().setNameFormat("BYG-Config-Loader-%d").setDaemon(true).build());
+
+        long start = System.nanoTime();
+        Map<String, CompletableFuture<Result>> futures = new LinkedHashMap<>();
+        try {
+            for (Task task : this.tasks.values()) {
+                List<CompletableFuture<Result>> dependencies = task.dependencies().stream().map(futures::get).toList();
+                futures.put(task.name(), CompletableFuture.allOf(dependencies.toArray(CompletableFuture[]::new)).thenApplyAsync(ignored -> {
+                    boolean dependenciesSkipped = dependencies.stream().allMatch(dependency -> dependency.join().skipped());
+                    return task.run(skipUnchanged && dependenciesSkipped);
+                }, executor));
+            }
+
+            StringBuilder errors = new StringBuilder();
+            StringBuilder report = new StringBuilder();
+            for (CompletableFuture<Result> future : futures.values()) {
+                Result result = future.join();
+                errors.append(result.error());
+                if (!report.isEmpty()) {
+                    report.append(", ");
+                }
+                report.append(String.format("%s: %s", result.name(), result.skipped() ? "unchanged" : String.format("%.1fms", result.nanos() / 1_000_000D)));
+            }
+            lastLoadHadErrors = !errors.isEmpty() || !BYGConfigHandler.CONFIG_EXCEPTIONS.isEmpty();
+            BYG.logInfo(String.format("Loaded BYG configs in %.1fms on %s thread(s) (%s).", (System.nanoTime() - start) / 1_000_000D, threads, report));
+            return errors.toString();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    public interface TaskLoader {
+        String load();
+    }
+
+    private record Task(String name, List<Path> files, TaskLoader loader, List<String> dependencies) {
+
+        private Result run(boolean skipUnchanged) {
+            if (skipUnchanged && !this.files.isEmpty()) {
+                String hash = FileUtils.hashContents(this.files);
+                if (hash.equals(LAST_LOADED_HASHES.get(this.name))) {
+                    return new Result(this.name, "", 0, true);
+                }
+            }
+
+            long start = System.nanoTime();
+            String error = this.loader.load();
+            long nanos = System.nanoTime() - start;
+            if (!this.files.isEmpty()) {
+                // Hash after loading, configs may be created or upgraded while being read.
+                LAST_LOADED_HASHES.put(this.name, FileUtils.hashContents(this.files));
+            }
+            return new Result(this.name, error, nanos, false);
+        }
+    }
+
+    private record Result(String name, String error, long nanos, boolean skipped) {
+    }
+}
@@ -1,6 +1,7 @@
 package potionstudios.byg.mixin.access;
 
 import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.levelgen.RandomState;
 import net.minecraft.world.level.levelgen.SurfaceRules;
 import net.minecraft.world.level.levelgen.SurfaceSystem;
 import org.spongepowered.asm.mixin.Mixin;
@@ -15,4 +16,7 @@ public interface SurfaceRuleContextAccess {
     @Accessor("chunk")
     ChunkAccess byg_getChunk();
 
+    @Accessor("randomState")
+    RandomState byg_getRandomState();
+
 }
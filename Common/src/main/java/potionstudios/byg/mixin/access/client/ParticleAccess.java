@@ -0,0 +1,12 @@
+package potionstudios.byg.mixin.access.client;
+
+import net.minecraft.client.particle.Particle;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(Particle.class)
+public interface ParticleAccess {
+
+    @Accessor("stoppedByCollision")
+    void byg_setStoppedByCollision(boolean stoppedByCollision);
+}
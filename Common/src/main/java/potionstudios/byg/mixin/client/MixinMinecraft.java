@@ -0,0 +1,20 @@
+package potionstudios.byg.mixin.client;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import potionstudios.byg.common.particles.FallingLeafParticlePool;
+
+import javax.annotation.Nullable;
+
+@Mixin(Minecraft.class)
+public class MixinMinecraft {
+
+    @Inject(method = "updateLevelInEngines", at = @At("HEAD"))
+    private void clearFallingLeafParticlePool(@Nullable ClientLevel level, CallbackInfo ci) {
+        FallingLeafParticlePool.clear();
+    }
+}
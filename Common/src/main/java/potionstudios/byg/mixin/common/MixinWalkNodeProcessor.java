@@ -1,8 +1,11 @@
 package potionstudios.byg.mixin.common;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.CollisionGetter;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.pathfinder.BlockPathTypes;
 import net.minecraft.world.level.pathfinder.WalkNodeEvaluator;
 import org.spongepowered.asm.mixin.Mixin;
@@ -10,6 +13,7 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import potionstudios.byg.common.block.BYGBlocks;
+import potionstudios.byg.util.PathfindingHazardSection;
 
 @Mixin(WalkNodeEvaluator.class)
 public class MixinWalkNodeProcessor {
@@ -23,10 +27,26 @@ public class MixinWalkNodeProcessor {
 
     @Inject(method = "getBlockPathTypeRaw", at = @At("RETURN"), cancellable = true)
     private static void byg_avoidQuartzCrystals(BlockGetter blockGetter, BlockPos blockPos, CallbackInfoReturnable<BlockPathTypes> cir) {
+        if (!mayContainPathfindingHazard(blockGetter, blockPos)) {
+            return;
+        }
         BlockState blockState = blockGetter.getBlockState(blockPos);
         if (blockState.is(BYGBlocks.QUARTZ_CRYSTAL.get())) {
             cir.setReturnValue(BlockPathTypes.DAMAGE_OTHER);
         }
     }
 
+    /**
+     * Checks the flag of the chunk section containing the position, so the extra block state lookup is skipped for sections without BYG hazards.
+     */
+    private static boolean mayContainPathfindingHazard(BlockGetter blockGetter, BlockPos blockPos) {
+        if (blockGetter instanceof CollisionGetter collisionGetter && collisionGetter.getChunkForCollisions(SectionPos.blockToSectionCoord(blockPos.getX()), SectionPos.blockToSectionCoord(blockPos.getZ())) instanceof ChunkAccess chunk) {
+            int sectionIndex = chunk.getSectionIndex(blockPos.getY());
+            if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount()) {
+                return false;
+            }
+            return ((PathfindingHazardSection) chunk.getSection(sectionIndex)).byg_mayContainPathfindingHazard();
+        }
+        return true;
+    }
 }
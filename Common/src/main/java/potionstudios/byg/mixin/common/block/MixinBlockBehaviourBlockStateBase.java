@@ -3,25 +3,35 @@ package potionstudios.byg.mixin.common.block;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import potionstudios.byg.BYG;
 import potionstudios.byg.util.BYGUtil;
+import potionstudios.byg.util.BlockStateTagReplacements;
 
 @Mixin(BlockBehaviour.BlockStateBase.class)
-public abstract class MixinBlockBehaviourBlockStateBase {
+public abstract class MixinBlockBehaviourBlockStateBase implements BlockStateTagReplacements {
 
+    @Unique
+    private int byg$tagReplacementMask = 0;
 
     @Inject(at = @At("HEAD"), method = "is(Lnet/minecraft/world/level/block/Block;)Z", cancellable = true)
     private void byg_useIsReplacement(Block block, CallbackInfoReturnable<Boolean> info) {
-        var replacements = BYG.getBlockstateIsReplacements();
-        if (BYGUtil.useTagReplacements && replacements.containsKey(block) && replacements.get(block).test(asThis())) {
+        int mask = this.byg$tagReplacementMask;
+        if (mask != 0 && BYGUtil.useTagReplacements && (mask & BYG.getBlockstateIsReplacementBit(block)) != 0) {
             info.setReturnValue(true);
         }
     }
 
-    private BlockBehaviour.BlockStateBase asThis() {
-        return (BlockBehaviour.BlockStateBase) (Object) this;
+    @Override
+    public int getTagReplacementMask() {
+        return this.byg$tagReplacementMask;
     }
-}
\ No newline at end of file
+
+    @Override
+    public void setTagReplacementMask(int tagReplacementMask) {
+        this.byg$tagReplacementMask = tagReplacementMask;
+    }
+}
@@ -1,12 +1,9 @@
 package potionstudios.byg.mixin.common.block;
 
 import com.google.common.collect.ImmutableList;
-import com.mojang.datafixers.util.Pair;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Vec3i;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.RandomSource;
-import net.minecraft.util.random.SimpleWeightedRandomList;
 import net.minecraft.world.level.block.SaplingBlock;
 import net.minecraft.world.level.block.grower.AbstractTreeGrower;
 import net.minecraft.world.level.block.state.BlockBehaviour;
@@ -20,17 +17,15 @@ import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import potionstudios.byg.common.block.sapling.BYGSaplingBlock;
-import potionstudios.byg.common.block.sapling.GrowingPatterns;
+import potionstudios.byg.util.CompiledGrowingPattern;
 import potionstudios.byg.util.FeatureGrowerFromBlockPattern;
 import potionstudios.byg.util.ModPlatform;
 
-import java.util.List;
-
 @Mixin(SaplingBlock.class)
 public class SaplingBlockMixin implements FeatureGrowerFromBlockPattern {
     @Shadow @Final public static IntegerProperty STAGE;
     @Unique
-    private ImmutableList<Pair<List<Vec3i>, SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner>>> byg$patterns = ImmutableList.of();
+    private ImmutableList<CompiledGrowingPattern> byg$patterns = ImmutableList.of();
 
     @Inject(method = "<init>", at = @At("TAIL"))
     private void onInitTailInjector(AbstractTreeGrower $$0, BlockBehaviour.Properties $$1, CallbackInfo ci) {
@@ -55,12 +50,12 @@ public class SaplingBlockMixin implements FeatureGrowerFromBlockPattern {
     }
 
     @Override
-    public ImmutableList<Pair<List<Vec3i>, SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner>>> byg_getPatterns() {
+    public ImmutableList<CompiledGrowingPattern> byg_getPatterns() {
         return byg$patterns;
     }
 
     @Override
-    public void byg_setPatterns(ImmutableList<Pair<List<Vec3i>, SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner>>> map) {
+    public void byg_setPatterns(ImmutableList<CompiledGrowingPattern> map) {
         this.byg$patterns = map;
     }
 }
@@ -0,0 +1,23 @@
+package potionstudios.byg.mixin.common.world;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import potionstudios.byg.util.LevelBlockIndexHolder;
+
+@Mixin(LevelChunk.class)
+public class MixinLevelChunk {
+
+    @Inject(method = "registerTickContainerInLevel", at = @At("RETURN"))
+    private void indexBlocksOnLoad(ServerLevel level, CallbackInfo ci) {
+        ((LevelBlockIndexHolder) level).getLevelBlockIndex().onChunkLoaded((LevelChunk) (Object) this);
+    }
+
+    @Inject(method = "unregisterTickContainerFromLevel", at = @At("RETURN"))
+    private void removeIndexedBlocksOnUnload(ServerLevel level, CallbackInfo ci) {
+        ((LevelBlockIndexHolder) level).getLevelBlockIndex().onChunkUnloaded((LevelChunk) (Object) this);
+    }
+}
@@ -0,0 +1,42 @@
+package potionstudios.byg.mixin.common.world;
+
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import potionstudios.byg.util.PathfindingHazardSection;
+
+@Mixin(LevelChunkSection.class)
+public class MixinLevelChunkSection implements PathfindingHazardSection {
+
+    @Shadow
+    @Final
+    private PalettedContainer<BlockState> states;
+
+    @Unique
+    private boolean byg$mayContainPathfindingHazard;
+
+    @Inject(method = "recalcBlockCounts", at = @At("RETURN"))
+    private void recalcPathfindingHazard(CallbackInfo ci) {
+        this.byg$mayContainPathfindingHazard = this.states.maybeHas(PathfindingHazardSection::isPathfindingHazard);
+    }
+
+    @Inject(method = "setBlockState(IIILnet/minecraft/world/level/block/state/BlockState;Z)Lnet/minecraft/world/level/block/state/BlockState;", at = @At("RETURN"))
+    private void flagPathfindingHazard(int x, int y, int z, BlockState state, boolean useLocks, CallbackInfoReturnable<BlockState> cir) {
+        if (!this.byg$mayContainPathfindingHazard && PathfindingHazardSection.isPathfindingHazard(state)) {
+            this.byg$mayContainPathfindingHazard = true;
+        }
+    }
+
+    @Override
+    public boolean byg_mayContainPathfindingHazard() {
+        return this.byg$mayContainPathfindingHazard;
+    }
+}
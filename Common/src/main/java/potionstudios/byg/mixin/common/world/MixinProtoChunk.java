@@ -0,0 +1,20 @@
+package potionstudios.byg.mixin.common.world;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import potionstudios.byg.util.WorldGenTimings;
+
+@Mixin(ProtoChunk.class)
+public class MixinProtoChunk {
+
+    // Only chunks still generating are proto chunks, so block writes during gameplay never reach this.
+    @Inject(method = "setBlockState", at = @At("HEAD"))
+    private void countWorldGenBlockSet(BlockPos pos, BlockState state, boolean isMoving, CallbackInfoReturnable<BlockState> cir) {
+        WorldGenTimings.onBlockSet();
+    }
+}
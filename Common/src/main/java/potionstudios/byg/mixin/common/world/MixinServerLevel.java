@@ -1,9 +1,7 @@
 package potionstudios.byg.mixin.common.world;
 
-import it.unimi.dsi.fastutil.bytes.Byte2DoubleOpenHashMap;
-import it.unimi.dsi.fastutil.bytes.Byte2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.ChatFormatting;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.network.chat.ClickEvent;
 import net.minecraft.network.chat.Component;
@@ -17,7 +15,7 @@ import net.minecraft.server.level.progress.ChunkProgressListener;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.dimension.LevelStem;
 import net.minecraft.world.level.storage.LevelStorageSource;
@@ -37,28 +35,27 @@ import potionstudios.byg.config.BYGConfigHandler;
 import potionstudios.byg.config.BiomepediaConfig;
 import potionstudios.byg.config.ConfigVersionTracker;
 import potionstudios.byg.network.packet.BiomepediaActivePacket;
-import potionstudios.byg.network.packet.LevelBiomeTrackerPacket;
 import potionstudios.byg.network.packet.SaplingPatternsPacket;
 import potionstudios.byg.server.command.UpdateConfigsCommand;
 import potionstudios.byg.util.BYGUtil;
 import potionstudios.byg.util.DuneCache;
+import potionstudios.byg.util.DuneColumnCache;
+import potionstudios.byg.util.LevelBlockIndex;
+import potionstudios.byg.util.LevelBlockIndexHolder;
 import potionstudios.byg.util.ModPlatform;
 
 import javax.annotation.Nonnull;
-import javax.annotation.Nullable;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 @Mixin(ServerLevel.class)
-public abstract class MixinServerLevel extends Level implements DuneCache {
+public abstract class MixinServerLevel extends Level implements DuneCache, LevelBlockIndexHolder {
     private Path worldPath;
 
-    private final Long2ObjectOpenHashMap<Byte2DoubleOpenHashMap> duneDensityCache = new Long2ObjectOpenHashMap<>();
-    private final Long2ObjectOpenHashMap<Byte2ObjectOpenHashMap<ResourceKey<Biome>>> duneBiomeSearchCache = new Long2ObjectOpenHashMap<>();
-    @Nullable
-    private LevelBiomeTracker bygLevelBiomeTracker = null;
+    private final DuneColumnCache duneColumnCache = new DuneColumnCache();
+    private final LevelBlockIndex levelBlockIndex = new LevelBlockIndex();
 
 
     protected MixinServerLevel(WritableLevelData $$0, ResourceKey<Level> $$1, Holder<DimensionType> $$2, Supplier<ProfilerFiller> $$3, boolean $$4, boolean $$5, long $$6, int $$7) {
@@ -76,13 +73,15 @@ public abstract class MixinServerLevel extends Level implements DuneCache {
     @Nonnull
     public abstract MinecraftServer getServer();
 
+    @Inject(method = "onBlockStateChange", at = @At("HEAD"))
+    private void updateLevelBlockIndex(BlockPos pos, BlockState oldState, BlockState newState, CallbackInfo ci) {
+        this.levelBlockIndex.onBlockStateChange(pos, oldState, newState);
+    }
+
     @Inject(method = "addPlayer", at = @At("HEAD"))
     private void warnExperimentalBYG(ServerPlayer serverPlayer, CallbackInfo ci) {
         ModPlatform.INSTANCE.sendToClient(serverPlayer, new SaplingPatternsPacket(GrowingPatterns.getConfig()));
         ModPlatform.INSTANCE.sendToClient(serverPlayer, new BiomepediaActivePacket(BiomepediaConfig.getConfig().biomepediaInventoryButtonEnabled()));
-        if (this.bygLevelBiomeTracker == null) {
-            this.bygLevelBiomeTracker = LevelBiomeTracker.fromServer(this.getServer());
-        }
 
         BiomepediaExtension biomepediaExtension = (BiomepediaExtension) serverPlayer;
         if (BiomepediaConfig.getConfig().giveBiomepediaBook() && !biomepediaExtension.gotBiomepedia()) {
@@ -90,7 +89,7 @@ public abstract class MixinServerLevel extends Level implements DuneCache {
             biomepediaExtension.setGotBiomepedia(true);
         }
 
-        ModPlatform.INSTANCE.sendToClient(serverPlayer, new LevelBiomeTrackerPacket(this.bygLevelBiomeTracker));
+        ModPlatform.INSTANCE.sendToClient(serverPlayer, ((LevelBiomeTracker.Access) this.getServer()).levelBiomeTrackerPacket());
         if (ConfigVersionTracker.getConfig().configVersion() != BYGConstants.CONFIG_VERSION) {
             if (getServer().isSingleplayerOwner(serverPlayer.getGameProfile())) {
                 serverPlayer.displayClientMessage(Component.translatable("byg.command.updateconfig.outdatedconfigs", UpdateConfigsCommand.UPDATE_COMPONENT, UpdateConfigsCommand.DISMISS_UPDATE_COMPONENT), false);
@@ -121,12 +120,12 @@ public abstract class MixinServerLevel extends Level implements DuneCache {
 
 
     @Override
-    public Long2ObjectOpenHashMap<Byte2DoubleOpenHashMap> getDensityAt() {
-        return duneDensityCache;
+    public DuneColumnCache getDuneColumnCache() {
+        return duneColumnCache;
     }
 
     @Override
-    public Long2ObjectOpenHashMap<Byte2ObjectOpenHashMap<ResourceKey<Biome>>> getBiomeAt() {
-        return duneBiomeSearchCache;
+    public LevelBlockIndex getLevelBlockIndex() {
+        return levelBlockIndex;
     }
 }
\ No newline at end of file
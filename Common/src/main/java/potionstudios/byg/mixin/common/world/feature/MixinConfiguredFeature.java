@@ -0,0 +1,29 @@
+package potionstudios.byg.mixin.common.world.feature;
+
+import net.minecraft.world.level.levelgen.feature.ConfiguredFeature;
+import net.minecraft.world.level.levelgen.feature.Feature;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import potionstudios.byg.util.WorldGenTimings;
+
+@Mixin(ConfiguredFeature.class)
+public class MixinConfiguredFeature {
+
+    @Shadow
+    @Final
+    private Feature<?> feature;
+
+    @Inject(method = "place", at = @At("HEAD"))
+    private void byg_startTiming(CallbackInfoReturnable<Boolean> cir) {
+        WorldGenTimings.start();
+    }
+
+    @Inject(method = "place", at = @At("RETURN"))
+    private void byg_endTiming(CallbackInfoReturnable<Boolean> cir) {
+        WorldGenTimings.end(this.feature);
+    }
+}
@@ -3,6 +3,7 @@ package potionstudios.byg.mixin.server;
 
 import com.mojang.datafixers.DataFixer;
 import net.minecraft.ChatFormatting;
+import net.minecraft.Util;
 import net.minecraft.core.Registry;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.chat.Component;
@@ -26,11 +27,13 @@ import net.minecraft.world.level.storage.WorldData;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import potionstudios.byg.BYG;
 import potionstudios.byg.BYGConstants;
+import potionstudios.byg.common.world.LevelBiomeTracker;
 import potionstudios.byg.common.world.feature.GlobalBiomeFeature;
 import potionstudios.byg.common.world.surfacerules.BYGSurfaceRules;
 import potionstudios.byg.common.world.util.BiomeSourceRepairUtils;
@@ -38,19 +41,22 @@ import potionstudios.byg.common.world.util.JigsawUtil;
 import potionstudios.byg.config.ConfigVersionTracker;
 import potionstudios.byg.config.SettingsConfig;
 import potionstudios.byg.config.json.OverworldBiomeConfig;
+import potionstudios.byg.network.packet.LevelBiomeTrackerPacket;
 import potionstudios.byg.server.command.UpdateConfigsCommand;
 import potionstudios.byg.util.BYGUtil;
 import potionstudios.byg.util.ModPlatform;
 import potionstudios.byg.util.ServerKillCountDown;
 
+import javax.annotation.Nullable;
 import java.net.Proxy;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BooleanSupplier;
 
 import static potionstudios.byg.util.AddSurfaceRulesUtil.appendSurfaceRule;
 
 @Mixin(MinecraftServer.class)
-public abstract class MixinMinecraftServer implements ServerKillCountDown {
+public abstract class MixinMinecraftServer implements ServerKillCountDown, LevelBiomeTracker.Access {
 
     @Shadow
     @Final
@@ -67,6 +73,13 @@ public abstract class MixinMinecraftServer implements ServerKillCountDown {
 
     private int byg$notifyErrorFrequency = 0;
 
+    @Unique
+    @Nullable
+    private CompletableFuture<LevelBiomeTracker> byg$levelBiomeTracker;
+    @Unique
+    @Nullable
+    private CompletableFuture<LevelBiomeTrackerPacket> byg$levelBiomeTrackerPacket;
+
 
     @Inject(at = @At("RETURN"), method = "<init>")
     private void appendGlobalFeatures(Thread $$0, LevelStorageSource.LevelStorageAccess $$1, PackRepository $$2, WorldStem $$3, Proxy $$4, DataFixer $$5, Services $$6, ChunkProgressListenerFactory $$7, CallbackInfo ci) {
@@ -101,9 +114,33 @@ public abstract class MixinMinecraftServer implements ServerKillCountDown {
             appendSurfaceRule(this.getWorldData(), LevelStem.NETHER, BYGSurfaceRules.NETHER_SURFACE_RULES);
             appendSurfaceRule(this.getWorldData(), LevelStem.END, BYGSurfaceRules.END_SURFACE_RULES);
         }
+        BYG.compileBlockstateIsReplacements();
         BYGUtil.useTagReplacements = true;
     }
 
+    @Inject(method = "createLevels", at = @At("RETURN"))
+    private void precomputeLevelBiomeTracker(ChunkProgressListener $$0, CallbackInfo ci) {
+        // Biome sources and registries are immutable by now, so the tracker and its packet are built in the background instead of on the first join.
+        this.byg$levelBiomeTracker = CompletableFuture.supplyAsync(() -> LevelBiomeTracker.fromServer((MinecraftServer) (Object) this), Util.backgroundExecutor());
+        this.byg$levelBiomeTrackerPacket = this.byg$levelBiomeTracker.thenApplyAsync(tracker -> LevelBiomeTrackerPacket.create(tracker, this.registryHolder), Util.backgroundExecutor());
+    }
+
+    @Override
+    public LevelBiomeTracker levelBiomeTracker() {
+        if (this.byg$levelBiomeTracker == null) {
+            this.byg$levelBiomeTracker = CompletableFuture.completedFuture(LevelBiomeTracker.fromServer((MinecraftServer) (Object) this));
+        }
+        return this.byg$levelBiomeTracker.join();
+    }
+
+    @Override
+    public LevelBiomeTrackerPacket levelBiomeTrackerPacket() {
+        if (this.byg$levelBiomeTrackerPacket == null) {
+            this.byg$levelBiomeTrackerPacket = CompletableFuture.completedFuture(LevelBiomeTrackerPacket.create(levelBiomeTracker(), this.registryHolder));
+        }
+        return this.byg$levelBiomeTrackerPacket.join();
+    }
+
     @SuppressWarnings("all")
     @Inject(method = "tickServer", at = @At("RETURN"))
     private void displayDisconnectWarning(BooleanSupplier $$0, CallbackInfo ci) {
@@ -1,40 +1,66 @@
 package potionstudios.byg.network.packet;
 
-import com.mojang.serialization.Codec;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.client.Minecraft;
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.biome.Biome;
 import potionstudios.byg.server.level.BYGPlayerTrackedData;
-import potionstudios.byg.util.BYGCodecUtil;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
-public record DiscoveredBiomesPacket(Map<String, Set<ResourceKey<Biome>>> discoveredBiomes) implements BYGS2CPacket {
+/**
+ * Syncs discovered biomes to the client as biome registry ids.
+ * <p>
+ * A snapshot replaces everything the client knows and is sent whenever the client player is (re)created, deltas only add the newly discovered biomes.
+ */
+public record DiscoveredBiomesPacket(boolean snapshot, int[] biomeIds) implements BYGS2CPacket {
 
-    public static DiscoveredBiomesPacket read(FriendlyByteBuf buf) {
-        try {
-            return new DiscoveredBiomesPacket(buf.readWithCodec(Codec.unboundedMap(Codec.STRING, BYGCodecUtil.BIOME_SET_CODEC)));
-        } catch (Exception e) {
-            throw new IllegalStateException("Discovered Biomes packet could not be read. This is really really bad...\n\n" + e.getMessage());
+    public static DiscoveredBiomesPacket snapshot(Registry<Biome> biomeRegistry, Map<String, Set<ResourceKey<Biome>>> discoveredBiomes) {
+        IntArrayList biomeIds = new IntArrayList();
+        for (Set<ResourceKey<Biome>> biomes : discoveredBiomes.values()) {
+            for (ResourceKey<Biome> biome : biomes) {
+                // Biomes that are no longer registered stay in the saved data but can't be synced.
+                biomeRegistry.getOptional(biome).ifPresent(value -> biomeIds.add(biomeRegistry.getId(value)));
+            }
         }
+        return new DiscoveredBiomesPacket(true, biomeIds.toIntArray());
+    }
+
+    public static DiscoveredBiomesPacket delta(Registry<Biome> biomeRegistry, Holder<Biome> discoveredBiome) {
+        return new DiscoveredBiomesPacket(false, new int[]{biomeRegistry.getId(discoveredBiome.value())});
+    }
+
+    public static DiscoveredBiomesPacket read(FriendlyByteBuf buf) {
+        return new DiscoveredBiomesPacket(buf.readBoolean(), buf.readVarIntArray());
     }
 
     @Override
     public void write(FriendlyByteBuf buf) {
-        try {
-            buf.writeWithCodec(Codec.unboundedMap(Codec.STRING, BYGCodecUtil.BIOME_SET_CODEC), this.discoveredBiomes);
-        } catch (Exception e) {
-            throw new IllegalStateException("Discovered Biomes packet could not be written. This is really really bad...\n\n" + e.getMessage());
-        }
+        buf.writeBoolean(this.snapshot);
+        buf.writeVarIntArray(this.biomeIds);
     }
 
     @Override
     public void handle(Level level) {
-        Map<String, Set<ResourceKey<Biome>>> discoveredBiomesByNameSpace = ((BYGPlayerTrackedData.Access) Minecraft.getInstance().player).getPlayerTrackedData().discoveredBiomesByNameSpace();
-        discoveredBiomesByNameSpace.clear();
-        discoveredBiomesByNameSpace.putAll(this.discoveredBiomes);
+        Player player = Minecraft.getInstance().player;
+        if (player == null) {
+            return;
+        }
+        BYGPlayerTrackedData.Access access = (BYGPlayerTrackedData.Access) player;
+        if (this.snapshot) {
+            access.setPlayerTrackedData(new BYGPlayerTrackedData(new HashMap<>()));
+        }
+        BYGPlayerTrackedData playerTrackedData = access.getPlayerTrackedData();
+        Registry<Biome> biomeRegistry = player.level.registryAccess().registryOrThrow(Registry.BIOME_REGISTRY);
+        for (int biomeId : this.biomeIds) {
+            biomeRegistry.getHolder(biomeId).flatMap(Holder::unwrapKey).ifPresent(playerTrackedData::addDiscoveredBiome);
+        }
     }
-}
\ No newline at end of file
+}
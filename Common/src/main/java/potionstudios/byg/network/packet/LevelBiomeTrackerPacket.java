@@ -1,31 +1,49 @@
 package potionstudios.byg.network.packet;
 
+import io.netty.buffer.Unpooled;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.core.RegistryAccess;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.level.Level;
 import potionstudios.byg.common.world.LevelBiomeTracker;
 
-public record LevelBiomeTrackerPacket(LevelBiomeTracker biomeTracker) implements BYGS2CPacket {
+/**
+ * Carries a {@link LevelBiomeTracker} pre-encoded with {@link LevelBiomeTracker#write}, so the server serializes it once no matter how many players join.
+ * The payload is only decoded on the client thread, where the synced registries it refers to are available.
+ */
+public record LevelBiomeTrackerPacket(byte[] payload) implements BYGS2CPacket {
 
-    public static LevelBiomeTrackerPacket read(FriendlyByteBuf buf) {
+    public static LevelBiomeTrackerPacket create(LevelBiomeTracker biomeTracker, RegistryAccess registryAccess) {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
         try {
-            return new LevelBiomeTrackerPacket(buf.readWithCodec(LevelBiomeTracker.CODEC));
-        } catch (Exception e) {
-            throw new IllegalStateException("LevelBiomeTracker packet could not be read. This is really really bad...\n\n" + e.getMessage());
+            biomeTracker.write(buf, registryAccess);
+            byte[] payload = new byte[buf.readableBytes()];
+            buf.readBytes(payload);
+            return new LevelBiomeTrackerPacket(payload);
+        } finally {
+            buf.release();
         }
     }
 
+    public static LevelBiomeTrackerPacket read(FriendlyByteBuf buf) {
+        return new LevelBiomeTrackerPacket(buf.readByteArray());
+    }
+
 
     @Override
     public void write(FriendlyByteBuf buf) {
-        try {
-            buf.writeWithCodec(LevelBiomeTracker.CODEC, this.biomeTracker);
-        } catch (Exception e) {
-            throw new IllegalStateException("LevelBiomeTracker packet could not be written. This is really really bad...\n\n" + e.getMessage());
-        }
+        buf.writeByteArray(this.payload);
     }
 
     @Override
     public void handle(Level level) {
-        LevelBiomeTracker.client_instance = this    .biomeTracker;
+        ClientPacketListener connection = Minecraft.getInstance().getConnection();
+        RegistryAccess registryAccess = connection != null ? connection.registryAccess() : level.registryAccess();
+        try {
+            LevelBiomeTracker.client_instance = LevelBiomeTracker.read(new FriendlyByteBuf(Unpooled.wrappedBuffer(this.payload)), registryAccess);
+        } catch (Exception e) {
+            throw new IllegalStateException("LevelBiomeTracker packet could not be read. This is really really bad...\n\n" + e.getMessage());
+        }
     }
 }
@@ -0,0 +1,63 @@
+package potionstudios.byg.server.command;
+
+import com.mojang.brigadier.builder.ArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.ClickEvent;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.HoverEvent;
+import potionstudios.byg.BYG;
+import potionstudios.byg.util.WorldGenTimings;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
+
+public class WorldGenTimingsCommand {
+
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss");
+
+    public static ArgumentBuilder<CommandSourceStack, ?> register() {
+        String commandString = "worldgen_timings";
+
+        return Commands.literal(commandString).requires(stack -> stack.hasPermission(4))
+            .then(Commands.literal("start").executes(cs -> {
+                WorldGenTimings.enable();
+                cs.getSource().sendSuccess(Component.translatable("byg.command.worldgentimings.started"), true);
+                return 1;
+            }))
+            .then(Commands.literal("stop").executes(cs -> {
+                WorldGenTimings.disable();
+                cs.getSource().sendSuccess(Component.translatable("byg.command.worldgentimings.stopped", WorldGenTimings.trackedIds()), true);
+                return 1;
+            }))
+            .then(Commands.literal("dump")
+                .then(Commands.literal("csv").executes(cs -> dump(cs, "csv", WorldGenTimings::toCsv)))
+                .then(Commands.literal("json").executes(cs -> dump(cs, "json", WorldGenTimings::toJson))));
+    }
+
+    private static int dump(CommandContext<CommandSourceStack> cs, String extension, Supplier<String> contents) {
+        Path path = cs.getSource().getServer().getServerDirectory().toPath().resolve("debug").resolve("byg-worldgen-timings-" + LocalDateTime.now().format(FILE_DATE_FORMAT) + "." + extension);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, contents.get());
+        } catch (IOException e) {
+            e.printStackTrace();
+            BYG.logError("Could not write world generation timings to \"%s\".".formatted(path));
+            cs.getSource().sendFailure(Component.translatable("byg.command.worldgentimings.dumpfailed"));
+            return 0;
+        }
+
+        String absolutePath = path.toAbsolutePath().toString();
+        Component pathComponent = Component.literal(absolutePath).withStyle(ChatFormatting.UNDERLINE).withStyle(style -> style
+            .withClickEvent(new ClickEvent(ClickEvent.Action.OPEN_FILE, absolutePath))
+            .withHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT, Component.literal(absolutePath))));
+        cs.getSource().sendSuccess(Component.translatable("byg.command.worldgentimings.dumped", WorldGenTimings.trackedIds(), pathComponent), true);
+        return 1;
+    }
+}
@@ -3,10 +3,11 @@ package potionstudios.byg.server.level;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.biome.Biome;
-import potionstudios.byg.network.packet.ConstructBYGPlayerTrackedDataPacket;
 import potionstudios.byg.network.packet.DiscoveredBiomesPacket;
 import potionstudios.byg.util.BYGCodecUtil;
 import potionstudios.byg.util.ModPlatform;
@@ -27,17 +28,24 @@ public record BYGPlayerTrackedData(Map<String, Set<ResourceKey<Biome>>> discover
     }
 
     public void playerCreate(ServerPlayer player) {
-        ModPlatform.INSTANCE.sendToClient(player, new ConstructBYGPlayerTrackedDataPacket(this));
+        ModPlatform.INSTANCE.sendToClient(player, DiscoveredBiomesPacket.snapshot(player.level.registryAccess().registryOrThrow(Registry.BIOME_REGISTRY), this.discoveredBiomesByNameSpace));
     }
 
 
     public void tickPerSecond(ServerPlayer player) {
-        ResourceKey<Biome> biomeResourceKey = player.level.getBiome(player.blockPosition()).unwrapKey().orElseThrow();
-        if (this.discoveredBiomesByNameSpace.computeIfAbsent(biomeResourceKey.location().getNamespace(), key -> new ObjectOpenHashSet<>()).add(biomeResourceKey)) {
-            ModPlatform.INSTANCE.sendToClient(player, new DiscoveredBiomesPacket(this.discoveredBiomesByNameSpace));
+        Holder<Biome> biome = player.level.getBiome(player.blockPosition());
+        if (addDiscoveredBiome(biome.unwrapKey().orElseThrow())) {
+            ModPlatform.INSTANCE.sendToClient(player, DiscoveredBiomesPacket.delta(player.level.registryAccess().registryOrThrow(Registry.BIOME_REGISTRY), biome));
         }
     }
 
+    /**
+     * @return Whether the biome was newly discovered.
+     */
+    public boolean addDiscoveredBiome(ResourceKey<Biome> biomeResourceKey) {
+        return this.discoveredBiomesByNameSpace.computeIfAbsent(biomeResourceKey.location().getNamespace(), key -> new ObjectOpenHashSet<>()).add(biomeResourceKey);
+    }
+
     public interface Access {
 
         BYGPlayerTrackedData getPlayerTrackedData();
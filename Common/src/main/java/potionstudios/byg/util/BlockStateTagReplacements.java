@@ -0,0 +1,11 @@
+package potionstudios.byg.util;
+
+public interface BlockStateTagReplacements {
+
+    /**
+     * @return A bitmask where bit {@code i} is set when this state satisfies the replacement compiled into slot {@code i} by {@link potionstudios.byg.BYG#compileBlockstateIsReplacements()}.
+     */
+    int getTagReplacementMask();
+
+    void setTagReplacementMask(int tagReplacementMask);
+}
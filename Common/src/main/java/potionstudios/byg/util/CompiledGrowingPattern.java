@@ -0,0 +1,150 @@
+package potionstudios.byg.util;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Vec3i;
+import net.minecraft.util.random.SimpleWeightedRandomList;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Block;
+import potionstudios.byg.common.block.sapling.GrowingPatterns;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link GrowingPatterns.GrowingPatternEntry} compiled into bitmasks over the square window of blocks surrounding the grown block.
+ * <p>
+ * Every candidate origin and both rotations get a precomputed mask, so matching a pattern against a window read with {@link #readWindow} is a single mask comparison per origin.
+ */
+public final class CompiledGrowingPattern {
+
+    /**
+     * How far from the grown block a pattern's origin may be moved on either axis.
+     */
+    public static final int ORIGIN_RANGE = (GrowingPatterns.MAX_PATTERN_SIZE - 1) / 2;
+    public static final int WINDOW_RADIUS = ORIGIN_RANGE + GrowingPatterns.MAX_PATTERN_SIZE / 2;
+    public static final int WINDOW_SIZE = WINDOW_RADIUS * 2 + 1;
+    private static final int ORIGIN_SIZE = ORIGIN_RANGE * 2 + 1;
+    private static final int ORIGIN_COUNT = ORIGIN_SIZE * ORIGIN_SIZE;
+
+    private final List<Vec3i> offsets;
+    private final List<Vec3i> rotatedOffsets;
+    private final SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner> spawners;
+
+    // Indexed by rotation * ORIGIN_COUNT + origin index, the window spans 81 bits so it is split over two longs.
+    private final long[] lowMasks = new long[ORIGIN_COUNT * 2];
+    private final long[] highMasks = new long[ORIGIN_COUNT * 2];
+    private long usedLowMask;
+    private long usedHighMask;
+
+    public CompiledGrowingPattern(List<Vec3i> offsets, SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner> spawners) {
+        this.offsets = List.copyOf(offsets);
+        List<Vec3i> rotatedOffsets = new ArrayList<>(offsets.size());
+        for (Vec3i offset : offsets) {
+            rotatedOffsets.add(new Vec3i(offset.getZ(), offset.getY(), offset.getX()));
+        }
+        this.rotatedOffsets = List.copyOf(rotatedOffsets);
+        this.spawners = spawners;
+
+        for (int xMove = -ORIGIN_RANGE; xMove <= ORIGIN_RANGE; xMove++) {
+            for (int zMove = -ORIGIN_RANGE; zMove <= ORIGIN_RANGE; zMove++) {
+                int originIndex = originIndex(xMove, zMove);
+                compileMask(this.offsets, xMove, zMove, originIndex);
+                compileMask(this.rotatedOffsets, xMove, zMove, ORIGIN_COUNT + originIndex);
+            }
+        }
+    }
+
+    private void compileMask(List<Vec3i> offsets, int xMove, int zMove, int maskIndex) {
+        for (Vec3i offset : offsets) {
+            int bit = windowBit(xMove + offset.getX(), zMove + offset.getZ());
+            if (bit < Long.SIZE) {
+                this.lowMasks[maskIndex] |= 1L << bit;
+            } else {
+                this.highMasks[maskIndex] |= 1L << (bit - Long.SIZE);
+            }
+        }
+        this.usedLowMask |= this.lowMasks[maskIndex];
+        this.usedHighMask |= this.highMasks[maskIndex];
+    }
+
+    /**
+     * @return 0 if the pattern matches unrotated at the given origin, 1 if only its rotation matches, -1 if neither does.
+     */
+    public int match(long windowLow, long windowHigh, int xMove, int zMove) {
+        int originIndex = originIndex(xMove, zMove);
+        if (matches(windowLow, windowHigh, originIndex)) {
+            return 0;
+        } else if (matches(windowLow, windowHigh, ORIGIN_COUNT + originIndex)) {
+            return 1;
+        }
+        return -1;
+    }
+
+    private boolean matches(long windowLow, long windowHigh, int maskIndex) {
+        long lowMask = this.lowMasks[maskIndex];
+        long highMask = this.highMasks[maskIndex];
+        return (windowLow & lowMask) == lowMask && (windowHigh & highMask) == highMask;
+    }
+
+    public List<Vec3i> offsets(boolean rotated) {
+        return rotated ? this.rotatedOffsets : this.offsets;
+    }
+
+    /**
+     * The position growth offsets are applied to is the last offset of the pattern, not its origin.
+     * Kept from the original matcher, which left its cursor on the last checked offset, since existing spawn offsets are tuned against it.
+     */
+    public Vec3i growthAnchor(boolean rotated) {
+        List<Vec3i> offsets = offsets(rotated);
+        return offsets.isEmpty() ? Vec3i.ZERO : offsets.get(offsets.size() - 1);
+    }
+
+    public SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner> spawners() {
+        return this.spawners;
+    }
+
+    public long usedLowMask() {
+        return this.usedLowMask;
+    }
+
+    public long usedHighMask() {
+        return this.usedHighMask;
+    }
+
+    /**
+     * Reads which blocks in the window centered on {@code center} are {@code block}, only looking at the cells set in the used masks.
+     *
+     * @return The low and high bits of the window.
+     */
+    public static long[] readWindow(BlockGetter level, BlockPos center, Block block, long usedLowMask, long usedHighMask) {
+        long windowLow = 0;
+        long windowHigh = 0;
+        BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
+        for (int dz = -WINDOW_RADIUS; dz <= WINDOW_RADIUS; dz++) {
+            for (int dx = -WINDOW_RADIUS; dx <= WINDOW_RADIUS; dx++) {
+                int bit = windowBit(dx, dz);
+                boolean low = bit < Long.SIZE;
+                long bitMask = low ? 1L << bit : 1L << (bit - Long.SIZE);
+                if (((low ? usedLowMask : usedHighMask) & bitMask) == 0) {
+                    continue;
+                }
+                if (level.getBlockState(mutableBlockPos.setWithOffset(center, dx, 0, dz)).is(block)) {
+                    if (low) {
+                        windowLow |= bitMask;
+                    } else {
+                        windowHigh |= bitMask;
+                    }
+                }
+            }
+        }
+        return new long[]{windowLow, windowHigh};
+    }
+
+    private static int windowBit(int dx, int dz) {
+        return (dz + WINDOW_RADIUS) * WINDOW_SIZE + dx + WINDOW_RADIUS;
+    }
+
+    private static int originIndex(int xMove, int zMove) {
+        return (xMove + ORIGIN_RANGE) * ORIGIN_SIZE + zMove + ORIGIN_RANGE;
+    }
+}
@@ -0,0 +1,131 @@
+package potionstudios.byg.util;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.biome.Biome;
+
+import javax.annotation.Nullable;
+
+/**
+ * Per chunk column cache used by dunes to avoid repeatedly querying the biomes of neighboring columns.
+ * <p>
+ * Safe to share across world gen worker threads: chunks are partitioned over lock striped shards, each shard is bounded and evicts its least recently used chunk once full.
+ * Each chunk stores its 16x16 columns in a flat array indexed by {@link DuneCache#getLocalIndex(int, int)}.
+ * Hit, miss and eviction counters are kept per shard under its lock and summed when read, so reading them during generation only gives an approximate snapshot.
+ */
+public final class DuneColumnCache {
+
+    public static final int DEFAULT_MAX_CHUNKS = 4096;
+    private static final int SHARD_COUNT = 16;
+
+    private final Shard[] shards = new Shard[SHARD_COUNT];
+
+    public DuneColumnCache() {
+        this(DEFAULT_MAX_CHUNKS);
+    }
+
+    public DuneColumnCache(int maxChunks) {
+        int maxChunksPerShard = Math.max(1, maxChunks / SHARD_COUNT);
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            this.shards[i] = new Shard(maxChunksPerShard);
+        }
+    }
+
+    /**
+     * @return The cached biome for the given column, or null if it is not cached.
+     */
+    @Nullable
+    public ResourceKey<Biome> getBiome(int x, int z) {
+        long chunkKey = ChunkPos.asLong(x >> 4, z >> 4);
+        Shard shard = shard(chunkKey);
+        synchronized (shard) {
+            ChunkColumns columns = shard.get(chunkKey);
+            ResourceKey<Biome> biome = columns == null ? null : columns.biomes[DuneCache.getLocalIndex(x, z)];
+            if (biome == null) {
+                shard.misses++;
+            } else {
+                shard.hits++;
+            }
+            return biome;
+        }
+    }
+
+    public void putBiome(int x, int z, ResourceKey<Biome> biome) {
+        long chunkKey = ChunkPos.asLong(x >> 4, z >> 4);
+        Shard shard = shard(chunkKey);
+        synchronized (shard) {
+            shard.getOrCreate(chunkKey).biomes[DuneCache.getLocalIndex(x, z)] = biome;
+        }
+    }
+
+    public long hits() {
+        long hits = 0;
+        for (Shard shard : this.shards) {
+            synchronized (shard) {
+                hits += shard.hits;
+            }
+        }
+        return hits;
+    }
+
+    public long misses() {
+        long misses = 0;
+        for (Shard shard : this.shards) {
+            synchronized (shard) {
+                misses += shard.misses;
+            }
+        }
+        return misses;
+    }
+
+    public long evictions() {
+        long evictions = 0;
+        for (Shard shard : this.shards) {
+            synchronized (shard) {
+                evictions += shard.evictions;
+            }
+        }
+        return evictions;
+    }
+
+    private Shard shard(long chunkKey) {
+        return this.shards[(int) (HashCommon.mix(chunkKey) & (SHARD_COUNT - 1))];
+    }
+
+    private static final class Shard {
+        private final Long2ObjectLinkedOpenHashMap<ChunkColumns> chunks = new Long2ObjectLinkedOpenHashMap<>();
+        private final int maxChunks;
+        private long hits;
+        private long misses;
+        private long evictions;
+
+        private Shard(int maxChunks) {
+            this.maxChunks = maxChunks;
+        }
+
+        @Nullable
+        private ChunkColumns get(long chunkKey) {
+            return this.chunks.getAndMoveToLast(chunkKey);
+        }
+
+        private ChunkColumns getOrCreate(long chunkKey) {
+            ChunkColumns columns = this.chunks.getAndMoveToLast(chunkKey);
+            if (columns == null) {
+                if (this.chunks.size() >= this.maxChunks) {
+                    this.chunks.removeFirst();
+                    this.evictions++;
+                }
+                columns = new ChunkColumns();
+                this.chunks.putAndMoveToLast(chunkKey, columns);
+            }
+            return columns;
+        }
+    }
+
+    private static final class ChunkColumns {
+        @SuppressWarnings("unchecked")
+        private final ResourceKey<Biome>[] biomes = new ResourceKey[256];
+    }
+}
@@ -1,14 +1,12 @@
 package potionstudios.byg.util;
 
 import com.google.common.collect.ImmutableList;
-import com.mojang.datafixers.util.Pair;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
 import net.minecraft.core.Vec3i;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.RandomSource;
-import net.minecraft.util.random.SimpleWeightedRandomList;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.feature.ConfiguredFeature;
@@ -26,13 +24,13 @@ public interface FeatureGrowerFromBlockPattern {
         this.serializePatterns(block);
     }
 
-    ImmutableList<Pair<List<Vec3i>, SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner>>> byg_getPatterns();
+    ImmutableList<CompiledGrowingPattern> byg_getPatterns();
 
-    void byg_setPatterns(ImmutableList<Pair<List<Vec3i>, SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner>>> map);
+    void byg_setPatterns(ImmutableList<CompiledGrowingPattern> map);
 
 
     default void serializePatterns(Block key) {
-        List<Pair<List<Vec3i>, SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner>>> list = new ArrayList<>();
+        List<CompiledGrowingPattern> list = new ArrayList<>();
 
         GrowingPatterns.getConfig().getPatterns(key).map(ArrayList::new).ifPresent(growingPatternEntries -> {
             growingPatternEntries.sort(Comparator.comparingInt(p -> {
@@ -82,7 +80,7 @@ public interface FeatureGrowerFromBlockPattern {
                 } else {
                     offsets.add(Vec3i.ZERO);
                 }
-                list.add(Pair.of(offsets, growingPatternEntry.spawners()));
+                list.add(new CompiledGrowingPattern(offsets, growingPatternEntry.spawners()));
             }
         });
         Collections.reverse(list);
@@ -91,67 +89,72 @@ public interface FeatureGrowerFromBlockPattern {
     }
 
     default boolean growFeature(Block block, ServerLevel level, BlockPos pos, RandomSource rand) {
-        BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
-        int range = (GrowingPatterns.MAX_PATTERN_SIZE - 1) / 2;
-
-        for (var entry : this.byg_getPatterns()) {
-            for (int xMove = -range; xMove <= range; xMove++) {
-                for (int zMove = -range; zMove <= range; zMove++) {
-                    BlockPos.MutableBlockPos mutableBlockPos1 = new BlockPos.MutableBlockPos().set(mutableBlockPos.set(pos).move(xMove, 0, zMove));
+        ImmutableList<CompiledGrowingPattern> patterns = this.byg_getPatterns();
+        if (patterns.isEmpty()) {
+            return false;
+        }
 
-                    List<Vec3i> offsets = entry.getFirst();
-                    SimpleWeightedRandomList<GrowingPatterns.FeatureSpawner> treePicker = entry.getSecond();
+        long usedLowMask = 0;
+        long usedHighMask = 0;
+        for (CompiledGrowingPattern pattern : patterns) {
+            usedLowMask |= pattern.usedLowMask();
+            usedHighMask |= pattern.usedHighMask();
+        }
+        long[] window = CompiledGrowingPattern.readWindow(level, pos, block, usedLowMask, usedHighMask);
 
-                    boolean matchedPattern = FeatureGrowerFromBlockPattern.patternMatches(level, offsets, mutableBlockPos1, mutableBlockPos, block, false);
-                    boolean rotated = false;
+        Registry<ConfiguredFeature<?, ?>> configuredFeaturesRegistry = null;
+        String blockID = null;
+        int range = CompiledGrowingPattern.ORIGIN_RANGE;
+        BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
 
-                    if (!matchedPattern && FeatureGrowerFromBlockPattern.patternMatches(level, offsets, mutableBlockPos1, mutableBlockPos, block, true)) {
-                        matchedPattern = true;
-                        rotated = true;
+        for (CompiledGrowingPattern pattern : patterns) {
+            for (int xMove = -range; xMove <= range; xMove++) {
+                for (int zMove = -range; zMove <= range; zMove++) {
+                    int match = pattern.match(window[0], window[1], xMove, zMove);
+                    if (match == -1) {
+                        continue;
                     }
+                    boolean rotated = match == 1;
 
-
-                    if (matchedPattern) {
-
-                        // Set tree
+                    if (configuredFeaturesRegistry == null) {
                         Optional<Registry<ConfiguredFeature<?, ?>>> configuredFeaturesOptionalRegistry = level.registryAccess().ownedRegistry(Registry.CONFIGURED_FEATURE_REGISTRY);
-                        if (configuredFeaturesOptionalRegistry.isPresent()) {
-                            Registry<ConfiguredFeature<?, ?>> configuredFeaturesRegistry = configuredFeaturesOptionalRegistry.get();
-                            Optional<GrowingPatterns.FeatureSpawner> randomValue = treePicker.getRandomValue(rand);
-                            if (randomValue.isPresent()) {
-                                GrowingPatterns.FeatureSpawner featureSpawner = randomValue.get();
-                                ConfiguredFeature<?, ?> configuredFeature = configuredFeaturesRegistry.get(featureSpawner.spawnerID());
-                                ResourceLocation blockKey = Registry.BLOCK.getKey(block);
-                                String blockID = blockKey == null ? "unknown_grower_block" : blockKey.toString();
-                                if (configuredFeature != null) {
-                                    Vec3i spawnOffset = featureSpawner.spawnOffset();
-                                    BlockPos growthPos = mutableBlockPos1.offset(spawnOffset);
-                                    if (configuredFeature.place(level, level.getChunkSource().getGenerator(), rand, growthPos.immutable())) {
-                                        // Clear saplings
-                                        for (Vec3i offset : offsets) {
-                                            if (rotated) {
-                                                offset = new Vec3i(offset.getZ(), offset.getY(), offset.getX());
-                                            }
-
-                                            BlockPos.MutableBlockPos movedPos = mutableBlockPos1.set(mutableBlockPos).move(offset);
-                                            BlockState offsetState = level.getBlockState(movedPos);
-                                            if (offsetState.is(block)) {
-                                                level.removeBlock(movedPos, false);
-                                            }
-                                        }
-                                        if (GrowingPatterns.getConfig().logGrowth()) {
-                                            BYG.logInfo(String.format("Grower \"%s\" grew configured feature \"%s\" at position %s(growth offset: %s).", blockID, featureSpawner.toString(), growthPos, spawnOffset));
-                                        }
-                                        return true;
-                                    } else {
-                                        if (GrowingPatterns.getConfig().logGrowth()) {
-                                            BYG.logInfo(String.format("Grower \"%s\" couldn't grow configured feature \"%s\" at position %s(growth offset: %s).", blockID, featureSpawner.toString(), growthPos, spawnOffset));
-                                        }
+                        if (configuredFeaturesOptionalRegistry.isEmpty()) {
+                            return false;
+                        }
+                        configuredFeaturesRegistry = configuredFeaturesOptionalRegistry.get();
+                        ResourceLocation blockKey = Registry.BLOCK.getKey(block);
+                        blockID = blockKey == null ? "unknown_grower_block" : blockKey.toString();
+                    }
+
+                    // Set tree
+                    Optional<GrowingPatterns.FeatureSpawner> randomValue = pattern.spawners().getRandomValue(rand);
+                    if (randomValue.isPresent()) {
+                        GrowingPatterns.FeatureSpawner featureSpawner = randomValue.get();
+                        ConfiguredFeature<?, ?> configuredFeature = configuredFeaturesRegistry.get(featureSpawner.spawnerID());
+                        if (configuredFeature != null) {
+                            BlockPos origin = pos.offset(xMove, 0, zMove);
+                            Vec3i spawnOffset = featureSpawner.spawnOffset();
+                            BlockPos growthPos = origin.offset(pattern.growthAnchor(rotated)).offset(spawnOffset);
+                            if (configuredFeature.place(level, level.getChunkSource().getGenerator(), rand, growthPos)) {
+                                // Clear saplings
+                                for (Vec3i offset : pattern.offsets(rotated)) {
+                                    BlockPos.MutableBlockPos movedPos = mutableBlockPos.set(origin).move(offset);
+                                    BlockState offsetState = level.getBlockState(movedPos);
+                                    if (offsetState.is(block)) {
+                                        level.removeBlock(movedPos, false);
                                     }
-                                } else {
-                                    BYG.logError(String.format("Grower \"%s\" failed when attempting to spawn configured feature \"%s\" at position %s. \"%s\" is not a valid configured feature ID in this world's datapack configured feature registry! Valid entries:\n %s", blockID, featureSpawner, pos, featureSpawner, BYGUtil.dumpRegistry(configuredFeaturesRegistry)));
+                                }
+                                if (GrowingPatterns.getConfig().logGrowth()) {
+                                    BYG.logInfo(String.format("Grower \"%s\" grew configured feature \"%s\" at position %s(growth offset: %s).", blockID, featureSpawner.toString(), growthPos, spawnOffset));
+                                }
+                                return true;
+                            } else {
+                                if (GrowingPatterns.getConfig().logGrowth()) {
+                                    BYG.logInfo(String.format("Grower \"%s\" couldn't grow configured feature \"%s\" at position %s(growth offset: %s).", blockID, featureSpawner.toString(), growthPos, spawnOffset));
                                 }
                             }
+                        } else {
+                            BYG.logError(String.format("Grower \"%s\" failed when attempting to spawn configured feature \"%s\" at position %s. \"%s\" is not a valid configured feature ID in this world's datapack configured feature registry! Valid entries:\n %s", blockID, featureSpawner, pos, featureSpawner, BYGUtil.dumpRegistry(configuredFeaturesRegistry)));
                         }
                     }
                 }
@@ -159,21 +162,4 @@ public interface FeatureGrowerFromBlockPattern {
         }
         return false;
     }
-
-    static boolean patternMatches(ServerLevel level, List<Vec3i> offsets, BlockPos.MutableBlockPos mutableBlockPos, BlockPos pos, Block block, boolean rotated) {
-        for (Vec3i offset : offsets) {
-            if (rotated) {
-                offset = new Vec3i(offset.getZ(), offset.getY(), offset.getX());
-            }
-
-            mutableBlockPos.set(pos).move(offset);
-            BlockState offsetState = level.getBlockState(mutableBlockPos);
-
-            if (!offsetState.is(block)) {
-                return false;
-            }
-        }
-
-        return true;
-    }
-}
\ No newline at end of file
+}
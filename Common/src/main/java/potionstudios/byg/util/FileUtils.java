@@ -1,16 +1,21 @@
 package potionstudios.byg.util;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import potionstudios.byg.BYG;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -23,6 +28,60 @@ public class FileUtils {
         return backUpDirectory(path, "backup_" + date);
     }
 
+    /**
+     * Backs up the directory like {@link #backUpDirectory(Path, String)}, but only when its contents changed since the last back up with the same name.
+     * The content hash of the last back up is stored next to it.
+     */
+    public static Path backUpDirectoryIfChanged(Path pathToBackUp, String name) {
+        Path backupPath = pathToBackUp.resolve("backups").resolve(String.format("%s.zip", name));
+        Path hashPath = backupPath.resolveSibling(String.format("%s.sha256", name));
+        String hash = hashContents(List.of(pathToBackUp), path -> !path.equals(backupPath) && !path.equals(hashPath));
+        try {
+            if (backupPath.toFile().exists() && hashPath.toFile().exists() && Files.readString(hashPath).equals(hash)) {
+                BYG.logInfo(String.format("Skipped back up for \"%s\", nothing changed since \"%s\" was made.", pathToBackUp, backupPath));
+                return backupPath;
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+
+        backUpDirectory(pathToBackUp, name);
+        try {
+            Files.writeString(hashPath, hash);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return backupPath;
+    }
+
+    /**
+     * Hashes the relative paths and contents of the given files and all files within the given directories.
+     */
+    public static String hashContents(List<Path> paths) {
+        return hashContents(paths, path -> true);
+    }
+
+    public static String hashContents(List<Path> paths, Predicate<Path> filter) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        for (Path root : paths) {
+            if (!root.toFile().exists()) {
+                hasher.putBoolean(false);
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(root)) {
+                for (Path path : files.filter(path -> !path.toFile().isDirectory() && filter.test(path)).sorted().toList()) {
+                    hasher.putString(root.relativize(path).toString().replace('\\', '/'), StandardCharsets.UTF_8);
+                    hasher.putBytes(Files.readAllBytes(path));
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+                // Unreadable files never match a previous hash.
+                hasher.putLong(System.nanoTime());
+            }
+        }
+        return hasher.hash().toString();
+    }
+
     public static Path backUpDirectory(Path pathToBackUp, String name) {
         Path backupPath = pathToBackUp.resolve("backups").resolve(String.format("%s.zip", name));
         ZipOutputStream zipOutputStream = makeZipOutputStream(pathToBackUp, backupPath, path -> !path.equals(backupPath) && !path.toFile().isDirectory());
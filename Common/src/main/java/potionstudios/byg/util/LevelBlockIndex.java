@@ -0,0 +1,185 @@
+package potionstudios.byg.util;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Per level index of the positions of a small, fixed set of blocks, kept up to date as chunks load/unload and as blocks change.
+ * <p>
+ * Lets entity goals look up nearby blocks like bells or pumpkins in time proportional to the number of matches instead of scanning the volume around them.
+ * Only ever accessed from the server thread.
+ */
+public class LevelBlockIndex {
+
+    /**
+     * Blocks tracked by the index, used by the Pumpkin Warden goals.
+     */
+    public static final Set<Block> INDEXED_BLOCKS = Set.of(Blocks.BELL, Blocks.PUMPKIN, Blocks.MELON, Blocks.CARVED_PUMPKIN);
+    private static final Predicate<BlockState> IS_INDEXED = state -> INDEXED_BLOCKS.contains(state.getBlock());
+
+    // Block -> chunk pos -> packed block positions.
+    private final Map<Block, Long2ObjectMap<LongOpenHashSet>> positions = new Reference2ObjectOpenHashMap<>();
+
+    public LevelBlockIndex() {
+        for (Block block : INDEXED_BLOCKS) {
+            this.positions.put(block, new Long2ObjectOpenHashMap<>());
+        }
+    }
+
+    public void onChunkLoaded(LevelChunk chunk) {
+        ChunkPos chunkPos = chunk.getPos();
+        long chunkKey = chunkPos.toLong();
+        onChunkUnloaded(chunk);
+
+        LevelChunkSection[] sections = chunk.getSections();
+        for (int sectionIndex = 0; sectionIndex < sections.length; sectionIndex++) {
+            LevelChunkSection section = sections[sectionIndex];
+            if (section.hasOnlyAir() || !section.maybeHas(IS_INDEXED)) {
+                continue;
+            }
+            int minY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(sectionIndex));
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        Block block = section.getBlockState(x, y, z).getBlock();
+                        Long2ObjectMap<LongOpenHashSet> blockPositions = this.positions.get(block);
+                        if (blockPositions != null) {
+                            blockPositions.computeIfAbsent(chunkKey, key -> new LongOpenHashSet()).add(BlockPos.asLong(chunkPos.getBlockX(x), minY + y, chunkPos.getBlockZ(z)));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public void onChunkUnloaded(LevelChunk chunk) {
+        long chunkKey = chunk.getPos().toLong();
+        for (Long2ObjectMap<LongOpenHashSet> blockPositions : this.positions.values()) {
+            blockPositions.remove(chunkKey);
+        }
+    }
+
+    public void onBlockStateChange(BlockPos pos, BlockState oldState, BlockState newState) {
+        Block oldBlock = oldState.getBlock();
+        Block newBlock = newState.getBlock();
+        if (oldBlock == newBlock) {
+            return;
+        }
+        long chunkKey = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+        long packedPos = pos.asLong();
+
+        Long2ObjectMap<LongOpenHashSet> oldPositions = this.positions.get(oldBlock);
+        if (oldPositions != null) {
+            LongOpenHashSet chunkPositions = oldPositions.get(chunkKey);
+            if (chunkPositions != null && chunkPositions.remove(packedPos) && chunkPositions.isEmpty()) {
+                oldPositions.remove(chunkKey);
+            }
+        }
+
+        Long2ObjectMap<LongOpenHashSet> newPositions = this.positions.get(newBlock);
+        if (newPositions != null) {
+            newPositions.computeIfAbsent(chunkKey, key -> new LongOpenHashSet()).add(packedPos);
+        }
+    }
+
+    /**
+     * Finds the indexed position of the given block closest to {@code origin} within the given horizontal and vertical range that passes {@code filter}.
+     *
+     * @return The closest matching position or null if there is none.
+     */
+    @Nullable
+    public BlockPos findNearest(Block block, BlockPos origin, int horizontalRange, int verticalRange, Predicate<BlockPos> filter) {
+        Long2ObjectMap<LongOpenHashSet> blockPositions = this.positions.get(block);
+        if (blockPositions == null || blockPositions.isEmpty()) {
+            return null;
+        }
+
+        int minChunkX = SectionPos.blockToSectionCoord(origin.getX() - horizontalRange);
+        int maxChunkX = SectionPos.blockToSectionCoord(origin.getX() + horizontalRange);
+        int minChunkZ = SectionPos.blockToSectionCoord(origin.getZ() - horizontalRange);
+        int maxChunkZ = SectionPos.blockToSectionCoord(origin.getZ() + horizontalRange);
+        long chunkArea = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+
+        Nearest nearest = new Nearest(origin, horizontalRange, verticalRange, filter);
+        if (chunkArea > blockPositions.size()) {
+            // Fewer indexed chunks than chunks in range, walk the index itself.
+            for (Long2ObjectMap.Entry<LongOpenHashSet> entry : blockPositions.long2ObjectEntrySet()) {
+                long chunkKey = entry.getLongKey();
+                int chunkX = ChunkPos.getX(chunkKey);
+                int chunkZ = ChunkPos.getZ(chunkKey);
+                if (chunkX >= minChunkX && chunkX <= maxChunkX && chunkZ >= minChunkZ && chunkZ <= maxChunkZ) {
+                    nearest.accept(entry.getValue());
+                }
+            }
+        } else {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    LongOpenHashSet chunkPositions = blockPositions.get(ChunkPos.asLong(chunkX, chunkZ));
+                    if (chunkPositions != null) {
+                        nearest.accept(chunkPositions);
+                    }
+                }
+            }
+        }
+        return nearest.pos;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Long2ObjectMap<LongOpenHashSet> blockPositions : this.positions.values()) {
+            for (LongOpenHashSet chunkPositions : blockPositions.values()) {
+                size += chunkPositions.size();
+            }
+        }
+        return size;
+    }
+
+    private static final class Nearest {
+        private final BlockPos origin;
+        private final int horizontalRange;
+        private final int verticalRange;
+        private final Predicate<BlockPos> filter;
+        private final BlockPos.MutableBlockPos candidate = new BlockPos.MutableBlockPos();
+        @Nullable
+        private BlockPos pos;
+        private double distanceSquared = Double.MAX_VALUE;
+
+        private Nearest(BlockPos origin, int horizontalRange, int verticalRange, Predicate<BlockPos> filter) {
+            this.origin = origin;
+            this.horizontalRange = horizontalRange;
+            this.verticalRange = verticalRange;
+            this.filter = filter;
+        }
+
+        private void accept(LongOpenHashSet chunkPositions) {
+            LongIterator iterator = chunkPositions.iterator();
+            while (iterator.hasNext()) {
+                this.candidate.set(iterator.nextLong());
+                if (Math.abs(this.candidate.getX() - this.origin.getX()) > this.horizontalRange || Math.abs(this.candidate.getZ() - this.origin.getZ()) > this.horizontalRange || Math.abs(this.candidate.getY() - this.origin.getY()) > this.verticalRange) {
+                    continue;
+                }
+                double distanceSquared = this.candidate.distSqr(this.origin);
+                if (distanceSquared < this.distanceSquared && this.filter.test(this.candidate)) {
+                    this.distanceSquared = distanceSquared;
+                    this.pos = this.candidate.immutable();
+                }
+            }
+        }
+    }
+}
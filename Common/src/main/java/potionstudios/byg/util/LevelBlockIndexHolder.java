@@ -0,0 +1,6 @@
+package potionstudios.byg.util;
+
+public interface LevelBlockIndexHolder {
+
+    LevelBlockIndex getLevelBlockIndex();
+}
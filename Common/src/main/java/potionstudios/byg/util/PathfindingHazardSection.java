@@ -0,0 +1,17 @@
+package potionstudios.byg.util;
+
+import net.minecraft.world.level.block.state.BlockState;
+import potionstudios.byg.common.block.BYGBlocks;
+
+/**
+ * Implemented on chunk sections to flag whether they may contain a BYG block that mob pathfinding has to treat specially.
+ * The flag is conservative: it may be set for a section without hazards, but is never clear for a section with one.
+ */
+public interface PathfindingHazardSection {
+
+    boolean byg_mayContainPathfindingHazard();
+
+    static boolean isPathfindingHazard(BlockState state) {
+        return state.is(BYGBlocks.QUARTZ_CRYSTAL.get()) || state.is(BYGBlocks.FROST_MAGMA.get());
+    }
+}
@@ -0,0 +1,246 @@
+package potionstudios.byg.util;
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.levelgen.feature.Feature;
+import net.minecraft.world.level.levelgen.placement.PlacementModifierType;
+import net.minecraft.world.level.levelgen.structure.pieces.StructurePieceType;
+import potionstudios.byg.BYG;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in timing of BYG features, placement modifiers and structure pieces during world generation.
+ * <p>
+ * Calls are bracketed with {@link #start()} and one of the {@code end} methods, both of which return immediately while timing is disabled.
+ * The frame returned by {@link #start()} should be passed to {@code end} from a {@code finally} block, frames left open by an exception further up are dropped when an outer frame ends.
+ * Nested calls are timed inclusively, so a feature placing other features is charged for their time and blocks as well.
+ * Blocks set counts every block state set in a chunk that is still generating on the timing thread, including writes that don't change the state.
+ */
+public final class WorldGenTimings {
+
+    // Histogram buckets split every power of two of nanoseconds into 4 sub-buckets, percentiles are therefore within ~19% of the true value.
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int BUCKETS = Long.SIZE << SUB_BUCKET_BITS;
+
+    public static final int NO_FRAME = -1;
+
+    private static volatile boolean enabled;
+    private static volatile int session;
+    private static final Map<String, Stats> STATS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Frames> FRAMES = ThreadLocal.withInitial(Frames::new);
+
+    private WorldGenTimings() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a new timing session, discarding previous results.
+     */
+    public static void enable() {
+        STATS.clear();
+        session++;
+        enabled = true;
+    }
+
+    public static void disable() {
+        enabled = false;
+    }
+
+    /**
+     * @return The frame to pass to {@code end}, or {@link #NO_FRAME} while timing is disabled.
+     */
+    public static int start() {
+        if (!enabled) {
+            return NO_FRAME;
+        }
+        return FRAMES.get().push(session);
+    }
+
+    /**
+     * Ends the innermost open frame. Only used where the frame returned by {@link #start()} can't be kept, like the injections around {@code ConfiguredFeature#place}.
+     */
+    public static void end(Feature<?> feature) {
+        if (enabled) {
+            end(FRAMES.get().depth - 1, Kind.FEATURE, Registry.FEATURE.getKey(feature));
+        }
+    }
+
+    public static void end(int frame, PlacementModifierType<?> type) {
+        if (enabled && frame != NO_FRAME) {
+            end(frame, Kind.PLACEMENT_MODIFIER, Registry.PLACEMENT_MODIFIERS.getKey(type));
+        }
+    }
+
+    public static void end(int frame, StructurePieceType type) {
+        if (enabled && frame != NO_FRAME) {
+            end(frame, Kind.STRUCTURE_PIECE, Registry.STRUCTURE_PIECE.getKey(type));
+        }
+    }
+
+    public static void onBlockSet() {
+        if (!enabled) {
+            return;
+        }
+        FRAMES.get().blocksSet++;
+    }
+
+    private static void end(int frame, Kind kind, @Nullable ResourceLocation id) {
+        Frames frames = FRAMES.get();
+        long endNanos = System.nanoTime();
+        // Frames of a previous session, from calls started while disabled or already dropped are not matched.
+        if (frames.session != session || frame < 0 || frame >= frames.depth) {
+            return;
+        }
+        // Also drops any deeper frames whose end was skipped by an exception.
+        frames.depth = frame;
+        if (id == null || !id.getNamespace().equals(BYG.MOD_ID)) {
+            return;
+        }
+        STATS.computeIfAbsent(kind.name + "/" + id, key -> new Stats(kind, id)).record(endNanos - frames.startNanos[frame], frames.blocksSet - frames.startBlocksSet[frame]);
+    }
+
+    public static int trackedIds() {
+        return STATS.size();
+    }
+
+    /**
+     * @return The results of the current session sorted by total time, one row per id.
+     */
+    public static String toCsv() {
+        StringBuilder builder = new StringBuilder("kind,id,count,total_ms,mean_us,p50_us,p99_us,blocks_set\n");
+        for (Stats stats : sortedStats()) {
+            builder.append(String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.3f,%.3f,%.3f,%d\n", stats.kind.name, stats.id, stats.count.sum(), stats.totalNanos.sum() / 1_000_000D, stats.meanNanos() / 1_000D, stats.percentileNanos(0.5) / 1_000D, stats.percentileNanos(0.99) / 1_000D, stats.blocksSet.sum()));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return The results of the current session sorted by total time, as a JSON array.
+     */
+    public static String toJson() {
+        StringBuilder builder = new StringBuilder("[\n");
+        List<Stats> sortedStats = sortedStats();
+        for (int i = 0; i < sortedStats.size(); i++) {
+            Stats stats = sortedStats.get(i);
+            builder.append(String.format(Locale.ROOT, "  {\"kind\": \"%s\", \"id\": \"%s\", \"count\": %d, \"total_ms\": %.3f, \"mean_us\": %.3f, \"p50_us\": %.3f, \"p99_us\": %.3f, \"blocks_set\": %d}", stats.kind.name, stats.id, stats.count.sum(), stats.totalNanos.sum() / 1_000_000D, stats.meanNanos() / 1_000D, stats.percentileNanos(0.5) / 1_000D, stats.percentileNanos(0.99) / 1_000D, stats.blocksSet.sum()));
+            builder.append(i < sortedStats.size() - 1 ? ",\n" : "\n");
+        }
+        return builder.append("]\n").toString();
+    }
+
+    private static List<Stats> sortedStats() {
+        List<Stats> sortedStats = new ArrayList<>(STATS.values());
+        sortedStats.sort(Comparator.comparingLong((Stats stats) -> stats.totalNanos.sum()).reversed());
+        return sortedStats;
+    }
+
+    private static int bucket(long nanos) {
+        if (nanos < (1L << SUB_BUCKET_BITS)) {
+            return (int) Math.max(nanos, 0);
+        }
+        int log2 = 63 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (log2 - SUB_BUCKET_BITS)) & ((1 << SUB_BUCKET_BITS) - 1);
+        return (log2 << SUB_BUCKET_BITS) | subBucket;
+    }
+
+    private static long bucketMidpoint(int bucket) {
+        if (bucket < (1 << SUB_BUCKET_BITS)) {
+            return bucket;
+        }
+        int log2 = bucket >>> SUB_BUCKET_BITS;
+        int subBucket = bucket & ((1 << SUB_BUCKET_BITS) - 1);
+        long lower = (1L << log2) + ((long) subBucket << (log2 - SUB_BUCKET_BITS));
+        return lower + (1L << (log2 - SUB_BUCKET_BITS)) / 2;
+    }
+
+    public enum Kind {
+        FEATURE("feature"),
+        PLACEMENT_MODIFIER("placement_modifier"),
+        STRUCTURE_PIECE("structure_piece");
+
+        private final String name;
+
+        Kind(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class Stats {
+        private final Kind kind;
+        private final ResourceLocation id;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder blocksSet = new LongAdder();
+        private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+        private Stats(Kind kind, ResourceLocation id) {
+            this.kind = kind;
+            this.id = id;
+        }
+
+        private void record(long nanos, long blocksSet) {
+            this.count.increment();
+            this.totalNanos.add(nanos);
+            this.blocksSet.add(blocksSet);
+            this.histogram.incrementAndGet(bucket(nanos));
+        }
+
+        private double meanNanos() {
+            long count = this.count.sum();
+            return count == 0 ? 0 : (double) this.totalNanos.sum() / count;
+        }
+
+        private long percentileNanos(double percentile) {
+            long total = 0;
+            long[] counts = new long[BUCKETS];
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                counts[bucket] = this.histogram.get(bucket);
+                total += counts[bucket];
+            }
+            long rank = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                seen += counts[bucket];
+                if (seen >= rank && counts[bucket] > 0) {
+                    return bucketMidpoint(bucket);
+                }
+            }
+            return 0;
+        }
+    }
+
+    private static final class Frames {
+        private int session = -1;
+        private int depth;
+        private long blocksSet;
+        private long[] startNanos = new long[16];
+        private long[] startBlocksSet = new long[16];
+
+        private int push(int session) {
+            if (this.session != session) {
+                this.session = session;
+                this.depth = 0;
+            }
+            if (this.depth == this.startNanos.length) {
+                this.startNanos = Arrays.copyOf(this.startNanos, this.depth * 2);
+                this.startBlocksSet = Arrays.copyOf(this.startBlocksSet, this.depth * 2);
+            }
+            this.startBlocksSet[this.depth] = this.blocksSet;
+            this.startNanos[this.depth] = System.nanoTime();
+            return this.depth++;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package potionstudios.byg.common.particles;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParticlePoolTest {
+
+    private static final int MAX_POOLED = 8;
+    private static final int STALE_TICKS = 20;
+
+    @Test
+    void capsLiveParticles() {
+        ParticlePool<Leaf> pool = pool();
+        for (int i = 0; i < 5; i++) {
+            assertTrue(pool.hasCapacity(0, 5));
+            pool.track(new Leaf(0));
+        }
+        assertFalse(pool.hasCapacity(0, 5));
+        assertFalse(pool.hasCapacity(STALE_TICKS, 5), "leaves ticked exactly " + STALE_TICKS + " ticks ago aren't stale yet");
+        assertEquals(5, pool.liveCount());
+    }
+
+    @Test
+    void recyclesReleasedParticles() {
+        ParticlePool<Leaf> pool = pool();
+        assertNull(pool.acquire());
+
+        Leaf leaf = new Leaf(0);
+        pool.track(leaf);
+        pool.release(leaf);
+        assertEquals(0, pool.liveCount());
+        assertEquals(1, pool.pooledCount());
+        assertSame(leaf, pool.acquire());
+        assertNull(pool.acquire());
+
+        // Releasing twice, or releasing a leaf that was never tracked, must not hand out the same instance twice.
+        pool.track(leaf);
+        pool.release(leaf);
+        pool.release(leaf);
+        pool.release(new Leaf(0));
+        assertEquals(1, pool.pooledCount());
+    }
+
+    @Test
+    void boundsPooledParticles() {
+        ParticlePool<Leaf> pool = pool();
+        List<Leaf> leaves = new ArrayList<>();
+        for (int i = 0; i < MAX_POOLED * 2; i++) {
+            Leaf leaf = new Leaf(0);
+            pool.track(leaf);
+            leaves.add(leaf);
+        }
+        leaves.forEach(pool::release);
+        assertEquals(0, pool.liveCount());
+        assertEquals(MAX_POOLED, pool.pooledCount());
+    }
+
+    @Test
+    void prunesStaleParticlesOnceCapped() {
+        ParticlePool<Leaf> pool = pool();
+        Leaf dropped = new Leaf(0);
+        Leaf ticking = new Leaf(0);
+        pool.track(dropped);
+        pool.track(ticking);
+
+        ticking.lastTicked = STALE_TICKS + 1;
+        assertTrue(pool.hasCapacity(STALE_TICKS + 1, 3));
+        assertEquals(2, pool.liveCount(), "stale leaves are only pruned once the cap is reached");
+
+        assertTrue(pool.hasCapacity(STALE_TICKS + 1, 2));
+        assertEquals(1, pool.liveCount());
+
+        // A pruned leaf the engine did tick one last time must not be recycled while it may still be referenced.
+        pool.release(dropped);
+        assertEquals(0, pool.pooledCount());
+    }
+
+    /**
+     * Runs a client spawning leaves every tick, where leaves expire by themselves, and some are dropped by the particle engine without expiring.
+     * The pool must never exceed the cap, never hand out a live leaf, and keep spawning despite the dropped leaves.
+     */
+    @Test
+    void survivesChurn() {
+        int maxParticles = 64;
+        ParticlePool<Leaf> pool = pool();
+        Random random = new Random(42);
+        List<Leaf> engine = new ArrayList<>();
+        Set<Leaf> live = Collections.newSetFromMap(new IdentityHashMap<>());
+        int spawned = 0;
+        int created = 0;
+        for (long gameTime = 0; gameTime < 5_000; gameTime++) {
+            for (int attempt = 0; attempt < 8; attempt++) {
+                if (!pool.hasCapacity(gameTime, maxParticles)) {
+                    break;
+                }
+                Leaf leaf = pool.acquire();
+                if (leaf == null) {
+                    leaf = new Leaf(gameTime);
+                    created++;
+                }
+                assertTrue(live.add(leaf), "a live leaf was handed out again");
+                leaf.lastTicked = gameTime;
+                leaf.lifetime = random.nextInt(20, 200);
+                pool.track(leaf);
+                engine.add(leaf);
+                spawned++;
+            }
+            assertTrue(pool.liveCount() <= maxParticles, "live leaves " + pool.liveCount() + " at game time " + gameTime);
+
+            for (int i = engine.size() - 1; i >= 0; i--) {
+                Leaf leaf = engine.get(i);
+                if (random.nextInt(5_000) == 0) {
+                    // Dropped by the engine without being ticked again.
+                    engine.remove(i);
+                    live.remove(leaf);
+                    continue;
+                }
+                leaf.lastTicked = gameTime;
+                if (leaf.lifetime-- <= 0) {
+                    engine.remove(i);
+                    live.remove(leaf);
+                    pool.release(leaf);
+                }
+            }
+        }
+        assertTrue(spawned > created * 10, "spawned " + spawned + " leaves but created " + created);
+
+        long gameTime = 5_000 + STALE_TICKS + 1;
+        engine.forEach(leaf -> leaf.lastTicked = gameTime);
+        assertFalse(pool.hasCapacity(gameTime, 0));
+        assertEquals(engine.size(), pool.liveCount(), "dropped leaves kept counting against the cap");
+    }
+
+    private static ParticlePool<Leaf> pool() {
+        return new ParticlePool<>(MAX_POOLED, STALE_TICKS, leaf -> leaf.lastTicked);
+    }
+
+    private static final class Leaf {
+        private long lastTicked;
+        private int lifetime;
+
+        private Leaf(long lastTicked) {
+            this.lastTicked = lastTicked;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package potionstudios.byg.common.world.biome;
+
+import net.minecraft.util.random.WeightedEntry;
+import net.minecraft.util.random.WeightedRandom;
+import org.junit.jupiter.api.Test;
+import terrablender.worldgen.noise.Area;
+import terrablender.worldgen.noise.AreaContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeightedBiomeIdsTest {
+
+    private static final long[] SEEDS = {42L, 1_234_567L, -8_675_309L, 0L};
+    private static final int LAYER_SIZE = 128;
+
+    /**
+     * Lists small enough to be flattened, checked for every weight that can be drawn and for a seeded layer of draws.
+     */
+    @Test
+    void matchesListWalkWhenFlattened() {
+        for (long seed : SEEDS) {
+            Random random = new Random(seed);
+            int[] weights = randomWeights(random, 1 + random.nextInt(40), 1_500);
+            int[] ids = randomIds(random, weights.length);
+            WeightedBiomeIds weightedIds = new WeightedBiomeIds(weights, ids);
+            int totalWeight = weightedIds.totalWeight();
+            assertTrue(totalWeight > 0 && totalWeight <= WeightedBiomeIds.MAX_FLATTENED_WEIGHT, "seed " + seed + " total weight " + totalWeight);
+
+            List<WeightedEntry.Wrapper<Integer>> entries = entries(weights, ids);
+            for (int weight = 0; weight < totalWeight; weight++) {
+                assertEquals(getWeightedItem(entries, weight), weightedIds.get(weight), "seed " + seed + ", weight " + weight);
+            }
+            assertMatchesLayer(seed, entries, weightedIds);
+        }
+    }
+
+    /**
+     * Lists too heavy to be flattened, checked around every cumulative weight and for a seeded layer of draws.
+     */
+    @Test
+    void matchesListWalkWhenSearched() {
+        for (long seed : SEEDS) {
+            Random random = new Random(seed);
+            int[] weights = randomWeights(random, 20 + random.nextInt(200), 1_000_000);
+            int[] ids = randomIds(random, weights.length);
+            WeightedBiomeIds weightedIds = new WeightedBiomeIds(weights, ids);
+            int totalWeight = weightedIds.totalWeight();
+            assertTrue(totalWeight > WeightedBiomeIds.MAX_FLATTENED_WEIGHT, "seed " + seed + " total weight " + totalWeight);
+
+            List<WeightedEntry.Wrapper<Integer>> entries = entries(weights, ids);
+            int cumulativeWeight = 0;
+            for (int weight : weights) {
+                cumulativeWeight += weight;
+                for (int drawn = cumulativeWeight - 1; drawn <= cumulativeWeight; drawn++) {
+                    if (drawn >= 0 && drawn < totalWeight) {
+                        assertEquals(getWeightedItem(entries, drawn), weightedIds.get(drawn), "seed " + seed + ", weight " + drawn);
+                    }
+                }
+            }
+            assertMatchesLayer(seed, entries, weightedIds);
+        }
+    }
+
+    /**
+     * The largest flattened list and the smallest searched one.
+     */
+    @Test
+    void matchesListWalkAtFlattenedLimit() {
+        for (int totalWeight : new int[]{WeightedBiomeIds.MAX_FLATTENED_WEIGHT, WeightedBiomeIds.MAX_FLATTENED_WEIGHT + 1}) {
+            int[] weights = {1, 0, totalWeight / 2 - 1, 7, totalWeight - totalWeight / 2 - 7};
+            int[] ids = {3, 9, 1, 4, 1};
+            WeightedBiomeIds weightedIds = new WeightedBiomeIds(weights, ids);
+            assertEquals(totalWeight, weightedIds.totalWeight(), "total weight");
+            List<WeightedEntry.Wrapper<Integer>> entries = entries(weights, ids);
+            for (int weight = 0; weight < totalWeight; weight++) {
+                assertEquals(getWeightedItem(entries, weight), weightedIds.get(weight), "total " + totalWeight + ", weight " + weight);
+            }
+        }
+    }
+
+    /**
+     * A list without any weight falls back to the layer's fallback biome instead of drawing.
+     */
+    @Test
+    void fallsBackWithoutWeight() {
+        WeightedBiomeIds weightedIds = new WeightedBiomeIds(new int[]{0, 0}, new int[]{3, 9});
+        assertEquals(0, weightedIds.totalWeight(), "total weight");
+        Area layer = new LayerUtil.InitLayer(weightedIds, 7).run(new AreaContext(25, 42L, 1L)).make();
+        for (int x = -8; x < 8; x++) {
+            for (int z = -8; z < 8; z++) {
+                assertEquals(7, layer.get(x, z), "cell " + x + ", " + z);
+            }
+        }
+    }
+
+    /**
+     * Samples the base layer {@link LayerUtil.InitLayer} makes for the seed, and expects every cell to hold the biome {@link WeightedRandom#getWeightedItem} picks
+     * from the list for the weight the cell's {@link AreaContext} draws.
+     */
+    private static void assertMatchesLayer(long seed, List<WeightedEntry.Wrapper<Integer>> entries, WeightedBiomeIds weightedIds) {
+        Area layer = new LayerUtil.InitLayer(weightedIds, -1).run(new AreaContext(25, seed, 1L)).make();
+        AreaContext context = new AreaContext(25, seed, 1L);
+        int totalWeight = WeightedRandom.getTotalWeight(entries);
+        for (int x = -LAYER_SIZE / 2; x < LAYER_SIZE / 2; x++) {
+            for (int z = -LAYER_SIZE / 2; z < LAYER_SIZE / 2; z++) {
+                context.initRandom(x, z);
+                int expected = getWeightedItem(entries, context.nextRandom(totalWeight));
+                assertEquals(expected, layer.get(x, z), "seed " + seed + ", cell " + x + ", " + z);
+            }
+        }
+    }
+
+    /**
+     * Weights in list order, about one in ten of them zero like a disabled config entry.
+     */
+    private static int[] randomWeights(Random random, int entries, int maxWeight) {
+        int[] weights = new int[entries];
+        for (int i = 0; i < entries; i++) {
+            weights[i] = random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(maxWeight);
+        }
+        // At least one entry has to be drawable.
+        weights[random.nextInt(entries)] = 1 + random.nextInt(maxWeight);
+        return weights;
+    }
+
+    /**
+     * Biome ids, repeating now and then like a biome listed twice.
+     */
+    private static int[] randomIds(Random random, int entries) {
+        int[] ids = new int[entries];
+        for (int i = 0; i < entries; i++) {
+            ids[i] = random.nextInt(entries * 2);
+        }
+        return ids;
+    }
+
+    /**
+     * The weighted list the ids were compiled from, zero weight entries included.
+     */
+    private static List<WeightedEntry.Wrapper<Integer>> entries(int[] weights, int[] ids) {
+        List<WeightedEntry.Wrapper<Integer>> entries = new ArrayList<>(weights.length);
+        for (int i = 0; i < weights.length; i++) {
+            entries.add(WeightedEntry.wrapper(ids[i], weights[i]));
+        }
+        return entries;
+    }
+
+    private static int getWeightedItem(List<WeightedEntry.Wrapper<Integer>> entries, int weight) {
+        return WeightedRandom.getWeightedItem(entries, weight).orElseThrow().getData();
+    }
+}
@@ -0,0 +1,106 @@
+package potionstudios.byg.common.world.feature.stateproviders;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ThresholdIndexTest {
+
+    private static final long[] SEEDS = {42L, 1_234_567L, -8_675_309L};
+    private static final int[] THRESHOLD_COUNTS = {0, 1, 4, 16, 64};
+    private static final int SAMPLES = 20_000;
+
+    /**
+     * Random thresholds, some overlapping, touching, empty or single points, looked up with random values and at and around every bound.
+     */
+    @Test
+    void matchesScanForRandomThresholds() {
+        for (long seed : SEEDS) {
+            Random random = new Random(seed);
+            for (int count : THRESHOLD_COUNTS) {
+                float[] mins = new float[count];
+                float[] maxes = new float[count];
+                for (int i = 0; i < count; i++) {
+                    float min = random.nextFloat() * 2 - 1;
+                    mins[i] = min;
+                    maxes[i] = switch (random.nextInt(8)) {
+                        case 0 -> min;
+                        case 1 -> min - random.nextFloat() * 0.05F;
+                        case 2 -> i > 0 ? mins[i - 1] : min;
+                        default -> min + random.nextFloat() * 0.1F;
+                    };
+                }
+                assertMatchesScan(mins, maxes, random, "seed " + seed + ", " + count + " thresholds");
+            }
+        }
+    }
+
+    /**
+     * Evenly spaced thresholds the way {@link BetweenNoiseThresholdProvider#createThresholds} accumulates them, where bounds fall on rounded floats.
+     */
+    @Test
+    void matchesScanForRepeatingThresholds() {
+        float[][] settings = {{0.02F, -2F, 2F}, {0.1F, -1F, 1F}, {0.25F, 0F, 1F}, {0.05F, -0.3F, 0.3F}};
+        for (long seed : SEEDS) {
+            Random random = new Random(seed);
+            for (float[] setting : settings) {
+                List<float[]> thresholds = new ArrayList<>();
+                for (float start = setting[1]; start <= setting[2]; start += (setting[0] * 2)) {
+                    thresholds.add(new float[]{start, start + setting[0]});
+                }
+                float[] mins = new float[thresholds.size()];
+                float[] maxes = new float[thresholds.size()];
+                for (int i = 0; i < thresholds.size(); i++) {
+                    mins[i] = thresholds.get(i)[0];
+                    maxes[i] = thresholds.get(i)[1];
+                }
+                assertMatchesScan(mins, maxes, random, "seed " + seed + ", size " + setting[0] + " from " + setting[1] + " to " + setting[2]);
+            }
+        }
+    }
+
+    private static void assertMatchesScan(float[] mins, float[] maxes, Random random, String message) {
+        double[] indexMins = new double[mins.length];
+        double[] indexMaxes = new double[maxes.length];
+        for (int i = 0; i < mins.length; i++) {
+            indexMins[i] = mins[i];
+            indexMaxes[i] = maxes[i];
+        }
+        ThresholdIndex index = new ThresholdIndex(indexMins, indexMaxes);
+
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            values.add(random.nextDouble() * 5 - 2.5);
+        }
+        for (int i = 0; i < mins.length; i++) {
+            for (double bound : new double[]{mins[i], maxes[i]}) {
+                values.add(bound);
+                values.add(Math.nextDown(bound));
+                values.add(Math.nextUp(bound));
+            }
+        }
+        values.add(Double.NEGATIVE_INFINITY);
+        values.add(Double.POSITIVE_INFINITY);
+        values.add(Double.NaN);
+
+        for (double value : values) {
+            assertEquals(scan(mins, maxes, value), index.contains(value), message + ", value " + value);
+        }
+    }
+
+    /**
+     * The per threshold check {@link BetweenNoiseThresholdProvider#getState} did before the index.
+     */
+    private static boolean scan(float[] mins, float[] maxes, double value) {
+        for (int i = 0; i < mins.length; i++) {
+            if (value >= mins[i] && value <= maxes[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
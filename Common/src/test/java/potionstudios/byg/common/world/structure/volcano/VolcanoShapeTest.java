@@ -0,0 +1,102 @@
+package potionstudios.byg.common.world.structure.volcano;
+
+import net.minecraft.util.Mth;
+import org.junit.jupiter.api.Test;
+import potionstudios.byg.common.world.math.noise.fastnoise.lite.FastNoiseLite;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class VolcanoShapeTest {
+
+    private static final long[] SEEDS = {42L, 1_234_567L, -8_675_309L};
+
+    /**
+     * Places every chunk of a volcano both ways and expects the same blocks in the same order, so the rock provider would consume the piece's random identically.
+     */
+    @Test
+    void matchesPerBlockSampling() {
+        for (long seed : SEEDS) {
+            Random random = new Random(seed);
+            int originX = random.nextInt(-10_000, 10_000);
+            int originZ = random.nextInt(-10_000, 10_000);
+            int noiseSeed = random.nextInt();
+            double baseRadius = random.nextInt(75, 120);
+            double leakage = 2 - (random.nextDouble() * 2);
+            int volcanoConeSize = random.nextInt(75, 120) + 50;
+            int maxY = -random.nextInt(5, 35);
+            int fluidYOffset = random.nextInt(2, 5);
+
+            VolcanoShape shape = new VolcanoShape(originX, originZ, baseRadius, leakage, volcanoConeSize, maxY, fluidYOffset);
+            FastNoiseLite noise = VolcanoShape.getSpongeNoise(noiseSeed);
+
+            int placed = 0;
+            for (int chunkX = (originX - volcanoConeSize) >> 4; chunkX <= (originX + volcanoConeSize) >> 4; chunkX++) {
+                for (int chunkZ = (originZ - volcanoConeSize) >> 4; chunkZ <= (originZ + volcanoConeSize) >> 4; chunkZ++) {
+                    int minX = Math.max(originX - volcanoConeSize, chunkX << 4);
+                    int maxX = Math.min(originX + volcanoConeSize, (chunkX << 4) + 15);
+                    int minZ = Math.max(originZ - volcanoConeSize, chunkZ << 4);
+                    int maxZ = Math.min(originZ + volcanoConeSize, (chunkZ << 4) + 15);
+
+                    List<PlacedBlock> expected = new ArrayList<>();
+                    placePerBlock(noiseSeed, originX, originZ, baseRadius, leakage, volcanoConeSize, maxY, fluidYOffset, minX, maxX, minZ, maxZ, expected);
+
+                    List<PlacedBlock> actual = new ArrayList<>();
+                    shape.forEachBlock(noise, minX, maxX, minZ, maxZ, (worldX, y, worldZ, lava) -> actual.add(new PlacedBlock(worldX, y, worldZ, lava)));
+
+                    assertEquals(expected, actual, "seed " + seed + ", chunk " + chunkX + ", " + chunkZ);
+                    placed += actual.size();
+                }
+            }
+            assertFalse(placed == 0, "seed " + seed + " placed no blocks");
+        }
+    }
+
+    /**
+     * The placement loop as it was before the column noise was hoisted and empty columns skipped.
+     */
+    private static void placePerBlock(int noiseSeed, int originX, int originZ, double baseRadius, double leakage, int volcanoConeSize, int maxY, int fluidYOffset,
+                                      int minX, int maxX, int minZ, int maxZ, List<PlacedBlock> placed) {
+        double threshold = 0.35;
+        FastNoiseLite fastNoiseLite = FastNoiseLite.createSpongePerlin(noiseSeed);
+        fastNoiseLite.SetFrequency(0.05F);
+
+        for (int worldX = minX; worldX <= maxX; worldX++) {
+            int localX = worldX - originX;
+
+            for (int worldZ = minZ; worldZ <= maxZ; worldZ++) {
+                int localZ = worldZ - originZ;
+
+                for (double y = -volcanoConeSize; y <= maxY; y++) {
+                    float spongePerlinValue = FastNoiseLite.getSpongePerlinValue(fastNoiseLite.GetNoise(worldX, worldZ));
+
+                    double scaledNoise = (spongePerlinValue / 13) * (-(y * baseRadius) / ((localX * localX) + (localZ * localZ)));
+
+                    int fluidY = maxY - fluidYOffset;
+                    double lava = scaledNoise - leakage - (leakage / 2) - 0.5;
+                    double crater = scaledNoise - 0.05;
+                    if (lava >= threshold) {
+                        if (y <= fluidY) {
+                            placed.add(new PlacedBlock(worldX, y, worldZ, true));
+                        }
+                    } else if (crater >= threshold) {
+                        double pct = threshold / crater;
+                        double craterY = Mth.clampedLerp(maxY, fluidY, 1 - pct);
+                        if (y <= craterY) {
+                            placed.add(new PlacedBlock(worldX, y, worldZ, false));
+                        }
+                    } else if (scaledNoise >= threshold) {
+                        placed.add(new PlacedBlock(worldX, y, worldZ, false));
+                    }
+                }
+            }
+        }
+    }
+
+    private record PlacedBlock(int x, double y, int z, boolean lava) {
+    }
+}
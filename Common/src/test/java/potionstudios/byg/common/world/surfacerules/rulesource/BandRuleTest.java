@@ -0,0 +1,125 @@
+package potionstudios.byg.common.world.surfacerules.rulesource;
+
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.SurfaceRules;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class BandRuleTest {
+
+    private static final int[] RULE_COUNTS = {1, 2, 3, 7};
+    private static final int COLUMNS = 10_000;
+
+    /**
+     * Puts every column in the middle of a different band, and expects it to reach the rule the noise condition of that band had.
+     */
+    @Test
+    void appliesEveryBandsRule() {
+        float[][] thresholds = NoiseBandsTest.createThresholds(NoiseBandsTest.SIZE, NoiseBandsTest.MIN, NoiseBandsTest.MAX);
+        NoiseBands bands = NoiseBandsTest.bands(thresholds);
+        BandRule.ColumnNoise noise = (x, z) -> ((double) thresholds[x][0] + thresholds[x][1]) / 2;
+        for (int ruleCount : RULE_COUNTS) {
+            List<String> expected = new ArrayList<>();
+            List<String> actual = new ArrayList<>();
+            BandRule rule = new BandRule(bands, noise, rules(ruleCount, actual));
+            SurfaceRules.SurfaceRule[] sequenceRules = rules(ruleCount, expected);
+            for (int band = 0; band < thresholds.length; band++) {
+                assertNull(rule.tryApply(band, 0, 0));
+                assertNull(noiseConditionSequence(thresholds, noise, sequenceRules, band, 0, 0));
+            }
+            assertEquals(thresholds.length, actual.size(), ruleCount + " rules");
+            assertEquals(expected, actual, ruleCount + " rules");
+        }
+    }
+
+    /**
+     * Applies the rule down columns visited in a random order, often moving along only one axis or back to an earlier column,
+     * and expects the same rules to be reached as the sequence of noise conditions, with the noise only sampled when the column changes.
+     * <p>
+     * Every rule returns {@code null}, which must not let a block fall through to the rule of another band.
+     */
+    @Test
+    void matchesNoiseConditionSequence() {
+        float[][] thresholds = NoiseBandsTest.createThresholds(NoiseBandsTest.SIZE, NoiseBandsTest.MIN, NoiseBandsTest.MAX);
+        NoiseBands bands = NoiseBandsTest.bands(thresholds);
+        for (int ruleCount : RULE_COUNTS) {
+            int[] samples = new int[1];
+            BandRule.ColumnNoise noise = (x, z) -> {
+                samples[0]++;
+                return columnNoise(x, z);
+            };
+            List<String> expected = new ArrayList<>();
+            List<String> actual = new ArrayList<>();
+            BandRule rule = new BandRule(bands, noise, rules(ruleCount, actual));
+            SurfaceRules.SurfaceRule[] sequenceRules = rules(ruleCount, expected);
+
+            Random random = new Random(ruleCount);
+            int columnChanges = 0;
+            int lastX = 0;
+            int lastZ = 0;
+            for (int column = 0; column < COLUMNS; column++) {
+                // The first column is the one a fresh rule could mistake for an already sampled one.
+                int x = column == 0 ? 0 : random.nextInt(16);
+                int z = column == 0 ? 0 : random.nextInt(16);
+                if (column == 0 || x != lastX || z != lastZ) {
+                    columnChanges++;
+                }
+                lastX = x;
+                lastZ = z;
+                for (int y = 4; y >= -4; y--) {
+                    assertNull(rule.tryApply(x, y, z));
+                    assertNull(noiseConditionSequence(thresholds, BandRuleTest::columnNoise, sequenceRules, x, y, z));
+                }
+            }
+            assertEquals(expected, actual, ruleCount + " rules");
+            assertEquals(columnChanges, samples[0], ruleCount + " rules, noise samples");
+        }
+    }
+
+    /**
+     * Rules that log every block they are applied to and place nothing.
+     */
+    private static SurfaceRules.SurfaceRule[] rules(int count, List<String> log) {
+        SurfaceRules.SurfaceRule[] rules = new SurfaceRules.SurfaceRule[count];
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            rules[i] = (x, y, z) -> {
+                log.add("rule " + index + " at " + x + ", " + y + ", " + z);
+                return null;
+            };
+        }
+        return rules;
+    }
+
+    /**
+     * A noise value for every column, shaped like a normal noise so about half of the columns land in a band.
+     */
+    private static double columnNoise(int x, int z) {
+        return new Random(x * 341873128712L + z * 132897987541L).nextGaussian() * 0.7;
+    }
+
+    /**
+     * The rule {@code createNoiseConditions} used to build: a sequence of one noise condition per band,
+     * band {@code i} applying rule {@code i % rules.length}, the first non null state winning.
+     */
+    @Nullable
+    private static BlockState noiseConditionSequence(float[][] thresholds, BandRule.ColumnNoise noise, SurfaceRules.SurfaceRule[] rules, int x, int y, int z) {
+        double value = noise.getValue(x, z);
+        for (int i = 0; i < thresholds.length; i++) {
+            if (value >= thresholds[i][0] && value <= thresholds[i][1]) {
+                BlockState state = rules[i % rules.length].tryApply(x, y, z);
+                if (state != null) {
+                    return state;
+                }
+            }
+        }
+        return null;
+    }
+}
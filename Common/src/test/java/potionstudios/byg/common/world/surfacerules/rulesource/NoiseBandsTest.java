@@ -0,0 +1,106 @@
+package potionstudios.byg.common.world.surfacerules.rulesource;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NoiseBandsTest {
+
+    private static final long[] SEEDS = {42L, 1_234_567L, -8_675_309L};
+    private static final int SAMPLES = 100_000;
+
+    // Rainbow Beach's terracotta bands.
+    static final float SIZE = 0.02F;
+    static final float MIN = -2F;
+    static final float MAX = 2F;
+
+    /**
+     * Looks up noise values spread over and past the banded range, both uniformly and shaped like a normal noise, and expects the band the noise conditions picked.
+     */
+    @Test
+    void matchesNoiseConditionsForRandomValues() {
+        float[][] thresholds = createThresholds(SIZE, MIN, MAX);
+        NoiseBands bands = bands(thresholds);
+        for (long seed : SEEDS) {
+            Random random = new Random(seed);
+            for (int i = 0; i < SAMPLES; i++) {
+                double uniform = random.nextDouble(MIN - 0.5, MAX + 0.5);
+                assertEquals(firstMatchingCondition(thresholds, uniform), bands.find(uniform), "seed " + seed + ", value " + uniform);
+                double gaussian = random.nextGaussian() * 0.7;
+                assertEquals(firstMatchingCondition(thresholds, gaussian), bands.find(gaussian), "seed " + seed + ", value " + gaussian);
+            }
+        }
+    }
+
+    /**
+     * Looks up every band bound, the closest doubles on either side of it and the middle of every gap, where rounding the float thresholds could move a value into the wrong band.
+     */
+    @Test
+    void matchesNoiseConditionsAtBandEdges() {
+        float[][] thresholds = createThresholds(SIZE, MIN, MAX);
+        NoiseBands bands = bands(thresholds);
+        List<Double> values = new ArrayList<>();
+        for (int i = 0; i < thresholds.length; i++) {
+            for (float bound : thresholds[i]) {
+                values.add((double) bound);
+                values.add(Math.nextDown((double) bound));
+                values.add(Math.nextUp((double) bound));
+            }
+            if (i + 1 < thresholds.length) {
+                values.add(((double) thresholds[i][1] + thresholds[i + 1][0]) / 2);
+            }
+        }
+        values.add(Double.NEGATIVE_INFINITY);
+        values.add(Double.POSITIVE_INFINITY);
+        values.add(Double.NaN);
+
+        int inBand = 0;
+        for (double value : values) {
+            int expected = firstMatchingCondition(thresholds, value);
+            assertEquals(expected, bands.find(value), "value " + value);
+            if (expected >= 0) {
+                inBand++;
+            }
+        }
+        assertEquals(thresholds.length * 4, inBand, "every band's bounds and the doubles just inside them are in the band");
+    }
+
+    static NoiseBands bands(float[][] thresholds) {
+        double[] mins = new double[thresholds.length];
+        double[] maxes = new double[thresholds.length];
+        for (int i = 0; i < thresholds.length; i++) {
+            mins[i] = thresholds[i][0];
+            maxes[i] = thresholds[i][1];
+        }
+        return new NoiseBands(mins, maxes);
+    }
+
+    /**
+     * The thresholds as {@code BetweenNoiseThresholdProvider.createThresholds} accumulates them, in floats.
+     */
+    static float[][] createThresholds(float size, float min, float max) {
+        List<float[]> thresholds = new ArrayList<>();
+        for (float start = min; start <= max; start += (size * 2)) {
+            thresholds.add(new float[]{start, start + size});
+        }
+        return thresholds.toArray(float[][]::new);
+    }
+
+    /**
+     * The sequence of noise conditions the rule used to expand into: the first condition whose closed range contains the value wins.
+     */
+    private static int firstMatchingCondition(float[][] thresholds, double value) {
+        for (int i = 0; i < thresholds.length; i++) {
+            double minThreshold = thresholds[i][0];
+            double maxThreshold = thresholds[i][1];
+            if (value >= minThreshold && value <= maxThreshold) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
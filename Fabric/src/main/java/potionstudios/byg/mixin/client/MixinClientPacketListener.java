@@ -0,0 +1,23 @@
+package potionstudios.byg.mixin.client;
+
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.network.protocol.game.ClientboundUpdateTagsPacket;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import potionstudios.byg.util.FabricModPlatform;
+
+@Mixin(ClientPacketListener.class)
+public class MixinClientPacketListener {
+
+    @Shadow
+    private RegistryAccess.Frozen registryAccess;
+
+    @Inject(at = @At("TAIL"), method = "handleUpdateTags")
+    private void byg$handleUpdateTags(ClientboundUpdateTagsPacket packet, CallbackInfo ci) {
+        FabricModPlatform.TAGS_UPDATED_EVENT.invoker().onTagsUpdated(this.registryAccess);
+    }
+}